@@ -0,0 +1,125 @@
+package com.moviehub.review.api;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.moviehub.review.dto.CacheStatsDto;
+import com.moviehub.review.dto.ConnectionPoolStatsDto;
+import com.moviehub.review.dto.HttpEndpointStatsDto;
+import com.moviehub.review.dto.RateLimiterStatsDto;
+import com.moviehub.review.dto.RatingReconciliationReportDto;
+import com.moviehub.review.dto.SingleFlightStatsDto;
+import com.moviehub.review.dto.SyncRunDto;
+import com.moviehub.review.mapper.CacheStatsMapper;
+import com.moviehub.review.mapper.HttpClientStatsMapper;
+import com.moviehub.review.service.MovieService;
+import com.moviehub.review.service.ReviewService;
+import com.moviehub.review.util.AdaptiveRateLimiter;
+import com.moviehub.review.util.HttpClientMetrics;
+import com.moviehub.review.util.SingleFlight;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+@RestController
+@RequestMapping("/api/admin")
+public class AdminApiController {
+
+    private static final Logger logger = LoggerFactory.getLogger(AdminApiController.class);
+
+    @Autowired
+    private ReviewService reviewService;
+
+    @Autowired
+    private MovieService movieService;
+
+    @Autowired
+    private List<SingleFlight<?, ?>> singleFlights;
+
+    @Autowired
+    private Map<String, Cache<?, ?>> caches;
+
+    @Autowired
+    private HttpClientMetrics tmdbHttpClientMetrics;
+
+    @Autowired
+    private AdaptiveRateLimiter tmdbRateLimiter;
+
+    @PostMapping("/ratings/reconcile")
+    public Mono<ResponseEntity<RatingReconciliationReportDto>> reconcileMovieRatings() {
+        return reviewService.reconcileMovieRatings()
+                .map(report -> ResponseEntity.ok(report));
+    }
+
+    @PostMapping("/tmdb/sync")
+    public ResponseEntity<Void> syncTmdbMovies(@RequestParam(defaultValue = "false") boolean full) {
+        movieService.syncTmdbMovies(full)
+                .subscribe(ran -> {
+                    if (!ran) {
+                        logger.info("On-demand TMDb sync skipped, another sync is already running");
+                    }
+                }, error -> logger.error("On-demand TMDb sync failed: {}", error.getMessage(), error));
+        return ResponseEntity.accepted().build();
+    }
+
+    @GetMapping("/tmdb/sync/runs")
+    public Flux<SyncRunDto> getTmdbSyncRuns(@RequestParam(defaultValue = "20") int limit) {
+        return movieService.getTmdbSyncRuns(limit);
+    }
+
+    @GetMapping("/tmdb/http/endpoints")
+    public ResponseEntity<List<HttpEndpointStatsDto>> getTmdbEndpointStats() {
+        return ResponseEntity.ok(tmdbHttpClientMetrics.getEndpoints().entrySet().stream()
+                .map(entry -> HttpClientStatsMapper.toDto(entry.getKey(), entry.getValue()))
+                .sorted(Comparator.comparing(HttpEndpointStatsDto::getEndpoint))
+                .collect(Collectors.toList()));
+    }
+
+    @GetMapping("/tmdb/http/pools")
+    public ResponseEntity<List<ConnectionPoolStatsDto>> getTmdbConnectionPoolStats() {
+        return ResponseEntity.ok(tmdbHttpClientMetrics.getPools().entrySet().stream()
+                .map(entry -> HttpClientStatsMapper.toDto(entry.getKey(), entry.getValue()))
+                .sorted(Comparator.comparing(ConnectionPoolStatsDto::getPool))
+                .collect(Collectors.toList()));
+    }
+
+    @GetMapping("/tmdb/http/rate-limit")
+    public ResponseEntity<RateLimiterStatsDto> getTmdbRateLimiterStats() {
+        return ResponseEntity.ok(HttpClientStatsMapper.toDto(tmdbRateLimiter));
+    }
+
+    @GetMapping("/cache/movies")
+    public ResponseEntity<CacheStatsDto> getMovieCacheStats() {
+        return ResponseEntity.ok(movieService.getMovieCacheStats());
+    }
+
+    @GetMapping("/cache")
+    public ResponseEntity<Map<String, CacheStatsDto>> getCacheStats() {
+        Map<String, CacheStatsDto> stats = new TreeMap<>();
+        caches.forEach((name, cache) -> stats.put(name, CacheStatsMapper.toDto(cache)));
+        return ResponseEntity.ok(stats);
+    }
+
+    @GetMapping("/single-flight")
+    public ResponseEntity<List<SingleFlightStatsDto>> getSingleFlightStats() {
+        return ResponseEntity.ok(singleFlights.stream()
+                .map(flight -> {
+                    SingleFlightStatsDto dto = new SingleFlightStatsDto();
+                    dto.setName(flight.getName());
+                    dto.setCalls(flight.getCalls());
+                    dto.setCollapsed(flight.getCollapsed());
+                    dto.setCollapsedRatio(flight.getCalls() > 0 ? (double) flight.getCollapsed() / flight.getCalls() : 0.0);
+                    dto.setInFlight(flight.getInFlight());
+                    return dto;
+                })
+                .collect(Collectors.toList()));
+    }
+}
@@ -1,9 +1,18 @@
 package com.moviehub.review.api;
 
+import com.moviehub.review.dto.CursorPageDto;
+import com.moviehub.review.dto.HomeFeedDto;
+import com.moviehub.review.dto.MovieFacetSearchDto;
 import com.moviehub.review.dto.MovieRequestDto;
 import com.moviehub.review.dto.MovieResponseDto;
+import com.moviehub.review.dto.MovieSearchCriteria;
+import com.moviehub.review.dto.MovieSuggestionDto;
+import com.moviehub.review.dto.MovieSummaryDto;
+import com.moviehub.review.dto.RatingDistributionDto;
 import com.moviehub.review.dto.ReviewRequestDto;
 import com.moviehub.review.dto.ReviewResponseDto;
+import com.moviehub.review.search.MovieFacetIndex;
+import com.moviehub.review.service.HomeFeedService;
 import com.moviehub.review.service.MovieService;
 import com.moviehub.review.service.ReviewService;
 import jakarta.validation.Valid;
@@ -14,6 +23,10 @@ import org.springframework.web.bind.annotation.*;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
 @RestController
 @RequestMapping("/api")
 @CrossOrigin(origins = "*")
@@ -25,9 +38,18 @@ public class ApiController {
     @Autowired
     private ReviewService reviewService;
 
+    @Autowired
+    private HomeFeedService homeFeedService;
+
+    @GetMapping("/home")
+    public Mono<HomeFeedDto> getHomeFeed() {
+        return Mono.just(homeFeedService.getHomeFeed());
+    }
+
     @GetMapping("/movies")
-    public Flux<MovieResponseDto> getAllMovies() {
-        return movieService.getALlMovies();
+    public Mono<CursorPageDto<MovieResponseDto>> getAllMovies(@RequestParam(defaultValue = "20") int limit,
+                                                              @RequestParam(required = false) String next) {
+        return movieService.getMoviesPage(next, limit);
     }
 
     @GetMapping("/movies/{id}")
@@ -66,8 +88,9 @@ public class ApiController {
     }
 
     @GetMapping("/reviews")
-    public Flux<ReviewResponseDto> getAllReviews() {
-        return reviewService.getAllReviews();
+    public Mono<CursorPageDto<ReviewResponseDto>> getAllReviews(@RequestParam(defaultValue = "20") int limit,
+                                                                @RequestParam(required = false) String next) {
+        return reviewService.getReviewsPage(next, limit);
     }
 
     @GetMapping("/reviews/{id}")
@@ -78,8 +101,10 @@ public class ApiController {
     }
 
     @GetMapping("/movies/{movieId}/reviews")
-    public Flux<ReviewResponseDto> getReviewsByMovieId(@PathVariable String movieId) {
-        return reviewService.getReviewsByMovieId(movieId);
+    public Mono<CursorPageDto<ReviewResponseDto>> getReviewsByMovieId(@PathVariable String movieId,
+                                                                      @RequestParam(defaultValue = "10") int limit,
+                                                                      @RequestParam(required = false) String before) {
+        return reviewService.getReviewsPageByMovieId(movieId, before, limit);
     }
 
     @PostMapping("/reviews")
@@ -109,20 +134,52 @@ public class ApiController {
                 .map(rating -> ResponseEntity.ok(rating));
     }
 
+    @GetMapping("/movies/{movieId}/rating-distribution")
+    public Mono<ResponseEntity<RatingDistributionDto>> getMovieRatingDistribution(@PathVariable String movieId) {
+        return movieService.getRatingDistribution(movieId)
+                .map(distribution -> ResponseEntity.ok(distribution));
+    }
+
     @GetMapping("/movies/search")
     public Flux<MovieResponseDto> searchMovies(@RequestParam(required = false) String genre,
                                                @RequestParam(required = false) String title,
-                                               @RequestParam(required = false) Integer year) {
-        if (genre != null) {
-            return movieService.findMoviesByGenre(genre);
-        } else if (title != null) {
-            return movieService.getALlMovies()
-                    .filter(movie -> movie.getTitle().toLowerCase().contains(title.toLowerCase()));
-        } else if (year != null) {
-            return movieService.getALlMovies()
-                    .filter(movie -> movie.getReleaseYear().equals(year));
-        } else {
-            return movieService.getALlMovies();
-        }
+                                               @RequestParam(required = false) Integer year,
+                                               @RequestParam(defaultValue = "20") int limit) {
+        return movieService.searchMovieDetailsByText(new MovieSearchCriteria(title, genre, year, null), limit);
+    }
+
+    @GetMapping("/movies/facets")
+    public Mono<MovieFacetSearchDto> searchMovieFacets(@RequestParam(required = false) List<String> genre,
+                                                       @RequestParam(required = false) List<String> year,
+                                                       @RequestParam(required = false) List<String> language,
+                                                       @RequestParam(required = false) List<String> ott,
+                                                       @RequestParam(required = false) Boolean released,
+                                                       @RequestParam(defaultValue = "0") int page,
+                                                       @RequestParam(defaultValue = "20") int size) {
+        Map<String, List<String>> filters = new HashMap<>();
+        filters.put(MovieFacetIndex.GENRE, genre);
+        filters.put(MovieFacetIndex.YEAR, year);
+        filters.put(MovieFacetIndex.LANGUAGE, language);
+        filters.put(MovieFacetIndex.OTT, ott);
+        filters.put(MovieFacetIndex.RELEASED, released != null ? List.of(released.toString()) : null);
+        return movieService.searchMovieFacets(filters, page, size);
+    }
+
+    @GetMapping("/movies/top")
+    public Flux<MovieSummaryDto> getTopRatedMovies(@RequestParam(defaultValue = "10") int limit,
+                                                   @RequestParam(required = false) String genre,
+                                                   @RequestParam(required = false) Integer year) {
+        return movieService.getTopRatedMovies(genre, year, limit);
+    }
+
+    @GetMapping("/movies/trending")
+    public Flux<MovieSummaryDto> getTrendingMovies(@RequestParam(defaultValue = "10") int limit) {
+        return movieService.getTrendingMovies(limit);
+    }
+
+    @GetMapping("/movies/suggest")
+    public Flux<MovieSuggestionDto> suggestMovies(@RequestParam String q,
+                                                  @RequestParam(defaultValue = "8") int limit) {
+        return movieService.suggestMovies(q, limit);
     }
 }
\ No newline at end of file
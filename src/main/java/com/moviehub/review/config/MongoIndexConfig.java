@@ -0,0 +1,46 @@
+package com.moviehub.review.config;
+
+import com.moviehub.review.model.Movie;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.index.TextIndexDefinition;
+
+@Configuration
+public class MongoIndexConfig {
+
+    private static final Logger logger = LoggerFactory.getLogger(MongoIndexConfig.class);
+
+    @Autowired
+    private ReactiveMongoTemplate mongoTemplate;
+
+    // Created here rather than via @TextIndexed: Movie.language holds TMDB codes such as "te", which
+    // MongoDB would otherwise treat as the per-document text language and reject.
+    @EventListener(ApplicationReadyEvent.class)
+    public void ensureMovieTextIndex() {
+        TextIndexDefinition textIndex = new TextIndexDefinition.TextIndexDefinitionBuilder()
+                .named("movie_text")
+                .onField("title", 10F)
+                .onField("originalTitle", 8F)
+                .onField("cast.name", 3F)
+                .onField("crew.directors.name", 3F)
+                .onField("crew.producers.name", 2F)
+                .onField("crew.writers.name", 2F)
+                .onField("crew.musicDirectors.name", 2F)
+                .onField("crew.cinematographers.name", 1F)
+                .onField("crew.editors.name", 1F)
+                .onField("crew.choreographers.name", 1F)
+                .onField("overview", 1F)
+                .withDefaultLanguage("none")
+                .withLanguageOverride("textSearchLanguage")
+                .build();
+
+        mongoTemplate.indexOps(Movie.class).createIndex(textIndex)
+                .subscribe(name -> logger.info("Ensured movie text index: {}", name),
+                        error -> logger.error("Failed to ensure movie text index: {}", error.getMessage(), error));
+    }
+}
@@ -0,0 +1,38 @@
+package com.moviehub.review.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.moviehub.review.model.Movie;
+import org.bson.Document;
+import org.bson.RawBsonDocument;
+import org.bson.codecs.DocumentCodec;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.mongodb.core.convert.MongoConverter;
+
+import java.time.Duration;
+
+@Configuration
+public class MovieCacheConfig {
+
+    private static final DocumentCodec DOCUMENT_CODEC = new DocumentCodec();
+
+    @Bean
+    public Cache<String, Movie> movieCache(MongoConverter mongoConverter,
+                                           @Value("${movies.cache.max-weight-bytes:67108864}") long maxWeightBytes,
+                                           @Value("${movies.cache.ttl:10m}") Duration ttl) {
+        return Caffeine.newBuilder()
+                .maximumWeight(maxWeightBytes)
+                .weigher((String movieId, Movie movie) -> bsonSize(mongoConverter, movie))
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+    }
+
+    private static int bsonSize(MongoConverter mongoConverter, Movie movie) {
+        Document document = new Document();
+        mongoConverter.write(movie, document);
+        return new RawBsonDocument(document, DOCUMENT_CODEC).getByteBuffer().remaining();
+    }
+}
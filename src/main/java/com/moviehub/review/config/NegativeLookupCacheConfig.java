@@ -0,0 +1,37 @@
+package com.moviehub.review.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Configuration
+public class NegativeLookupCacheConfig {
+
+    @Value("${lookups.negative-cache.max-size:100000}")
+    private long maxSize;
+
+    @Value("${lookups.negative-cache.ttl:30s}")
+    private Duration ttl;
+
+    @Bean
+    public Cache<String, Boolean> missingMovieIdCache() {
+        return newNegativeCache();
+    }
+
+    @Bean
+    public Cache<String, Boolean> missingReviewIdCache() {
+        return newNegativeCache();
+    }
+
+    private Cache<String, Boolean> newNegativeCache() {
+        return Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+    }
+}
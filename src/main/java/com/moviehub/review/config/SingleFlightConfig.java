@@ -0,0 +1,32 @@
+package com.moviehub.review.config;
+
+import com.moviehub.review.dto.CursorPageDto;
+import com.moviehub.review.dto.ReviewResponseDto;
+import com.moviehub.review.model.Movie;
+import com.moviehub.review.util.SingleFlight;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class SingleFlightConfig {
+
+    @Bean
+    public SingleFlight<String, Movie> movieByIdFlight() {
+        return new SingleFlight<>("movieById");
+    }
+
+    @Bean
+    public SingleFlight<String, String> movieIdByTitleFlight() {
+        return new SingleFlight<>("movieIdByTitle");
+    }
+
+    @Bean
+    public SingleFlight<String, Boolean> movieExistsByTmdbIdFlight() {
+        return new SingleFlight<>("movieExistsByTmdbId");
+    }
+
+    @Bean
+    public SingleFlight<String, CursorPageDto<ReviewResponseDto>> movieReviewsPageFlight() {
+        return new SingleFlight<>("movieReviewsPage");
+    }
+}
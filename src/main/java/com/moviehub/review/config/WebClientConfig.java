@@ -1,15 +1,113 @@
 package com.moviehub.review.config;
 
+import com.moviehub.review.util.AdaptiveRateLimiter;
+import com.moviehub.review.util.HttpClientMetrics;
+import io.netty.channel.ChannelOption;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.time.Duration;
 
 @Configuration
 public class WebClientConfig {
 
+    private static final int TMDB_MAX_IN_MEMORY_SIZE = 2 * 1024 * 1024;
+
+    @Value("${tmdb.api.base:https://api.themoviedb.org/3}")
+    private String tmdbBaseUrl;
+
+    @Value("${tmdb.http.max-connections:50}")
+    private int maxConnections;
+
+    @Value("${tmdb.http.pending-acquire-max-count:500}")
+    private int pendingAcquireMaxCount;
+
+    @Value("${tmdb.http.pending-acquire-timeout:30s}")
+    private Duration pendingAcquireTimeout;
+
+    @Value("${tmdb.http.max-idle-time:30s}")
+    private Duration maxIdleTime;
+
+    @Value("${tmdb.http.max-life-time:5m}")
+    private Duration maxLifeTime;
+
+    @Value("${tmdb.http.eviction-interval:30s}")
+    private Duration evictionInterval;
+
+    @Value("${tmdb.http.connect-timeout:5s}")
+    private Duration connectTimeout;
+
+    @Value("${tmdb.http.response-timeout:15s}")
+    private Duration responseTimeout;
+
+    @Value("${tmdb.rate-limit.requests-per-second:40}")
+    private double requestsPerSecond;
+
+    @Value("${tmdb.rate-limit.min-requests-per-second:1}")
+    private double minRequestsPerSecond;
+
+    @Value("${tmdb.rate-limit.burst:40}")
+    private double burst;
+
+    @Value("${tmdb.rate-limit.ramp-up:1}")
+    private double rampUp;
+
+    @Value("${tmdb.rate-limit.max-retries:3}")
+    private int maxRetries;
+
+    @Value("${tmdb.rate-limit.default-retry-after:2s}")
+    private Duration defaultRetryAfter;
+
     @Bean
     public WebClient.Builder webClientBuilder() {
         return WebClient.builder();
     }
-}
\ No newline at end of file
+
+    @Bean
+    public HttpClientMetrics tmdbHttpClientMetrics() {
+        return new HttpClientMetrics("tmdb");
+    }
+
+    @Bean
+    public AdaptiveRateLimiter tmdbRateLimiter() {
+        return new AdaptiveRateLimiter("tmdb", requestsPerSecond, minRequestsPerSecond, burst, rampUp,
+                maxRetries, defaultRetryAfter);
+    }
+
+    @Bean(destroyMethod = "dispose")
+    public ConnectionProvider tmdbConnectionProvider(HttpClientMetrics tmdbHttpClientMetrics) {
+        return ConnectionProvider.builder("tmdb")
+                .maxConnections(maxConnections)
+                .pendingAcquireMaxCount(pendingAcquireMaxCount)
+                .pendingAcquireTimeout(pendingAcquireTimeout)
+                .maxIdleTime(maxIdleTime)
+                .maxLifeTime(maxLifeTime)
+                .evictInBackground(evictionInterval)
+                .metrics(true, () -> tmdbHttpClientMetrics)
+                .build();
+    }
+
+    // One pooled, keep-alive client for every TMDb call, so sync runs reuse warm connections
+    @Bean
+    public WebClient tmdbWebClient(ConnectionProvider tmdbConnectionProvider, HttpClientMetrics tmdbHttpClientMetrics,
+                                   AdaptiveRateLimiter tmdbRateLimiter) {
+        HttpClient httpClient = HttpClient.create(tmdbConnectionProvider)
+                .keepAlive(true)
+                .compress(true)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, (int) connectTimeout.toMillis())
+                .responseTimeout(responseTimeout);
+
+        return WebClient.builder()
+                .baseUrl(tmdbBaseUrl)
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
+                .codecs(configurer -> configurer.defaultCodecs().maxInMemorySize(TMDB_MAX_IN_MEMORY_SIZE))
+                .filter(tmdbRateLimiter)
+                .filter(tmdbHttpClientMetrics)
+                .build();
+    }
+}
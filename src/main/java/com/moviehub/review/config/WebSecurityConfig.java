@@ -4,6 +4,7 @@ import com.moviehub.review.service.impl.UserDetailsService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpMethod;
 import org.springframework.security.config.annotation.method.configuration.EnableReactiveMethodSecurity;
 import org.springframework.security.config.annotation.web.reactive.EnableWebFluxSecurity;
 import org.springframework.security.config.web.server.ServerHttpSecurity;
@@ -33,6 +34,8 @@ public class WebSecurityConfig {
                         .pathMatchers("/", "/movie/", "/movie/all", "/movie/*/detailed", "/movie/*",
                                 "/reviews", "/reviews/*").permitAll()
 
+                        .pathMatchers(HttpMethod.GET, "/api/movies/*/reviews", "/api/home").permitAll()
+
                         .pathMatchers("/reviews/create").hasAnyRole("USER", "AUTHOR", "ADMIN")
 
                         .pathMatchers("/reviews/edit/**", "/reviews/update/**", "/reviews/delete/**")
@@ -42,7 +45,7 @@ public class WebSecurityConfig {
                         .pathMatchers("/movie/edit/**", "/movie/update/**", "/movie/*/enrich")
                         .hasAnyRole("AUTHOR", "ADMIN")
 
-                        .pathMatchers("/movie/delete/**", "/admin/**", "/management/**").hasRole("ADMIN")
+                        .pathMatchers("/movie/delete/**", "/admin/**", "/management/**", "/api/admin/**").hasRole("ADMIN")
 
                         .pathMatchers("/users/**", "/roles/**").hasRole("ADMIN")
 
@@ -3,13 +3,20 @@ package com.moviehub.review.controller;
 import com.moviehub.review.dto.CastMemberDto;
 import com.moviehub.review.dto.MovieRequestDto;
 import com.moviehub.review.dto.MovieResponseDto;
+import com.moviehub.review.dto.MovieSearchCriteria;
+import com.moviehub.review.dto.MovieSummaryDto;
 import com.moviehub.review.dto.OttPlatformDto;
+import com.moviehub.review.mapper.MovieMapper;
+import com.moviehub.review.service.HomeFeedService;
 import com.moviehub.review.service.MovieService;
 import com.moviehub.review.service.ReviewService;
 import jakarta.validation.Valid;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.validation.BindingResult;
@@ -26,12 +33,17 @@ public class MovieViewController {
 
     private static final Logger logger = LoggerFactory.getLogger(MovieViewController.class);
 
+    private static final int REVIEWS_PAGE_SIZE = 10;
+
     @Autowired
     private MovieService movieService;
 
     @Autowired
     private ReviewService reviewService;
 
+    @Autowired
+    private HomeFeedService homeFeedService;
+
     private boolean isUserAdmin(Principal principal) {
         if (principal == null) {
             return false;
@@ -54,6 +66,7 @@ public class MovieViewController {
         }
         
         model.addAttribute("isAdmin", isUserAdmin(principal));
+        model.addAttribute("homeFeed", homeFeedService.getHomeFeed());
         return Mono.just("home");
     }
 
@@ -70,60 +83,43 @@ public class MovieViewController {
         logger.info("Fetching all movies with filters - search: {}, genre: {}, year: {}, page: {}, size: {}",
                 search, genre, year, page, size);
 
-        return movieService.getALlMovies()
-                .collectList()
-                .doOnNext(movies -> {
-                    if (principal != null) {
-                        model.addAttribute("currentUser", principal.getName());
-                        logger.debug("User {} accessing movie list", principal.getName());
-                    }
-                    
-                    model.addAttribute("isAdmin", isUserAdmin(principal));
-
-                    logger.debug("Retrieved {} total movies from database", movies.size());
-
-                    Map<String, MovieResponseDto> uniqueMovies = new LinkedHashMap<>();
-                    movies.forEach(movie -> {
-                        if (movie != null && movie.getMovieId() != null) {
-                            uniqueMovies.put(movie.getMovieId(), movie);
-                        }
-                    });
-
-                    List<MovieResponseDto> deduplicatedMovies = new ArrayList<>(uniqueMovies.values());
-                    logger.debug("After deduplication: {} unique movies", deduplicatedMovies.size());
-
-                    List<MovieResponseDto> filteredMovies = deduplicatedMovies.stream()
-                            .filter(movie -> matchesFilters(movie, search, genre, year))
-                            .collect(Collectors.toList());
-
-                    logger.debug("After filtering: {} movies match criteria", filteredMovies.size());
-
-                    List<MovieResponseDto> released = filteredMovies.stream()
-                            .filter(m -> Boolean.TRUE.equals(m.getReleased()))
-                            .sorted((a, b) -> b.getReleaseYear().compareTo(a.getReleaseYear())) // Latest first
-                            .collect(Collectors.toList());
+        if (principal != null) {
+            model.addAttribute("currentUser", principal.getName());
+            logger.debug("User {} accessing movie list", principal.getName());
+        }
 
-                    List<MovieResponseDto> upcoming = filteredMovies.stream()
-                            .filter(m -> !Boolean.TRUE.equals(m.getReleased()))
-                            .sorted(Comparator.comparing(
-                                    MovieResponseDto::getReleaseYear,
-                                    Comparator.nullsLast(Comparator.reverseOrder())
-                            ))
-                            .collect(Collectors.toList());
+        model.addAttribute("isAdmin", isUserAdmin(principal));
 
-                    List<MovieResponseDto> allMoviesForDisplay = new ArrayList<>();
-                    allMoviesForDisplay.addAll(upcoming);
-                    allMoviesForDisplay.addAll(released);
+        int pageSize = Math.max(1, size);
+        String trimmedSearch = trimString(search);
+        String trimmedGenre = trimString(genre);
 
+        // Upcoming first, then released; each group latest first
+        Sort displaySort = Sort.by(Sort.Order.asc("released"), Sort.Order.desc("releaseYear"), Sort.Order.asc("_id"));
+        Sort latestFirst = Sort.by(Sort.Order.desc("releaseYear"), Sort.Order.asc("_id"));
+
+        Mono<Page<MovieSummaryDto>> allMovies = movieService.searchMovies(
+                new MovieSearchCriteria(trimmedSearch, trimmedGenre, year, null),
+                PageRequest.of(Math.max(0, page), pageSize, displaySort));
+        Mono<Page<MovieSummaryDto>> releasedMovies = movieService.searchMovies(
+                new MovieSearchCriteria(trimmedSearch, trimmedGenre, year, true),
+                PageRequest.of(Math.max(0, releasedPage), pageSize, latestFirst));
+        Mono<Page<MovieSummaryDto>> upcomingMovies = movieService.searchMovies(
+                new MovieSearchCriteria(trimmedSearch, trimmedGenre, year, false),
+                PageRequest.of(Math.max(0, upcomingPage), pageSize, latestFirst));
+
+        return Mono.zip(allMovies, releasedMovies, upcomingMovies)
+                .doOnNext(pages -> {
                     logger.debug("Movies categorized - released: {}, upcoming: {}, total for display: {}",
-                            released.size(), upcoming.size(), allMoviesForDisplay.size());
+                            pages.getT2().getTotalElements(), pages.getT3().getTotalElements(),
+                            pages.getT1().getTotalElements());
 
-                    addPaginationAttributes(model, allMoviesForDisplay, page, size, "");
-                    addPaginationAttributes(model, released, releasedPage, size, "released");
-                    addPaginationAttributes(model, upcoming, upcomingPage, size, "upcoming");
+                    addPaginationAttributes(model, pages.getT1(), "");
+                    addPaginationAttributes(model, pages.getT2(), "released");
+                    addPaginationAttributes(model, pages.getT3(), "upcoming");
 
-                    model.addAttribute("searchQuery", trimString(search));
-                    model.addAttribute("genreFilter", trimString(genre));
+                    model.addAttribute("searchQuery", trimmedSearch);
+                    model.addAttribute("genreFilter", trimmedGenre);
                     model.addAttribute("yearFilter", year);
                 })
                 .doOnError(error -> logger.error("Error fetching movies: {}", error.getMessage(), error))
@@ -188,6 +184,8 @@ public class MovieViewController {
                 .doOnNext(movie -> {
                     logger.debug("Retrieved movie: {}", movie.getTitle());
                     model.addAttribute("movie", movie);
+                    model.addAttribute("ratingDistribution", MovieMapper.toRatingDistributionDto(
+                            movie.getMovieId(), movie.getRatingHistogram(), movie.getAverageRating()));
 
                     if (movie.getCrew() != null) {
                         logger.info("CONTROLLER - Crew data exists for movie: {}", movie.getTitle());
@@ -224,11 +222,11 @@ public class MovieViewController {
                         model.addAttribute("ottPlatforms", Map.of());
                     }
                 })
-                .flatMap(movie -> reviewService.getReviewsByMovieId(movieId)
-                        .collectList()
+                .flatMap(movie -> reviewService.getReviewsPageByMovieId(movieId, null, REVIEWS_PAGE_SIZE)
                         .doOnNext(reviews -> {
-                            logger.debug("Retrieved {} reviews for movie {}", reviews.size(), movieId);
-                            model.addAttribute("reviews", reviews);
+                            logger.debug("Retrieved {} reviews for movie {}", reviews.getItems().size(), movieId);
+                            model.addAttribute("reviews", reviews.getItems());
+                            model.addAttribute("reviewsNextCursor", reviews.getNext());
                         }))
                 .thenReturn("movie-detail")
                 .onErrorResume(error -> {
@@ -360,11 +358,11 @@ public class MovieViewController {
                         model.addAttribute("ottPlatforms", platformsByType);
                     }
                 })
-                .flatMap(movie -> reviewService.getReviewsByMovieId(movieId)
-                        .collectList()
+                .flatMap(movie -> reviewService.getReviewsPageByMovieId(movieId, null, REVIEWS_PAGE_SIZE)
                         .doOnNext(reviews -> {
-                            logger.debug("Retrieved {} reviews for movie {}", reviews.size(), movieId);
-                            model.addAttribute("reviews", reviews);
+                            logger.debug("Retrieved {} reviews for movie {}", reviews.getItems().size(), movieId);
+                            model.addAttribute("reviews", reviews.getItems());
+                            model.addAttribute("reviewsNextCursor", reviews.getNext());
                         }))
                 .then(Mono.just("movie-detailed"))
                 .onErrorResume(error -> {
@@ -396,48 +394,19 @@ public class MovieViewController {
                 });
     }
 
-    private boolean matchesFilters(MovieResponseDto movie, String search, String genre, Integer year) {
-        String trimmedSearch = trimString(search);
-        String trimmedGenre = trimString(genre);
-
-        if (trimmedSearch != null) {
-            String title = movie.getTitle() == null ? "" : movie.getTitle();
-            if (!title.toLowerCase().contains(trimmedSearch.toLowerCase())) {
-                return false;
-            }
-        }
-
-        if (trimmedGenre != null) {
-            String genreString = String.valueOf(movie.getGenre());
-            if (genreString == null || genreString.trim().isEmpty() ||
-                    !genreString.toLowerCase().contains(trimmedGenre.toLowerCase())) {
-                return false;
-            }
-        }
-
-        return year == null || year.equals(movie.getReleaseYear());
-    }
-
-    private void addPaginationAttributes(Model model, List<MovieResponseDto> movies, int page, int size, String prefix) {
-        int total = movies.size();
-        int totalPages = (int) Math.ceil(total / (double) size);
-        int safePage = Math.max(0, Math.min(page, Math.max(0, totalPages - 1)));
-
-        int from = safePage * size;
-        int to = Math.min(total, from + size);
-        List<MovieResponseDto> pagedMovies = movies.subList(from, to);
+    private void addPaginationAttributes(Model model, Page<MovieSummaryDto> movies, String prefix) {
+        int totalPages = movies.getTotalPages();
 
         logger.debug("Pagination for {}: total={}, page={}, size={}, totalPages={}",
-                prefix.isEmpty() ? "all" : prefix, total, safePage, size, totalPages);
+                prefix.isEmpty() ? "all" : prefix, movies.getTotalElements(), movies.getNumber(), movies.getSize(), totalPages);
 
-        model.addAttribute(prefix + "Movies", movies);
-        model.addAttribute(prefix + (prefix.isEmpty() ? "pagedMovies" : "Paged"), pagedMovies);
-        model.addAttribute(prefix + (prefix.isEmpty() ? "page" : "Page"), safePage);
+        model.addAttribute(prefix + (prefix.isEmpty() ? "pagedMovies" : "Paged"), movies.getContent());
+        model.addAttribute(prefix + (prefix.isEmpty() ? "page" : "Page"), movies.getNumber());
         model.addAttribute(prefix + (prefix.isEmpty() ? "totalPages" : "TotalPages"), totalPages);
 
         if (prefix.isEmpty()) {
-            model.addAttribute("size", size);
-            model.addAttribute("total", total);
+            model.addAttribute("size", movies.getSize());
+            model.addAttribute("total", movies.getTotalElements());
         }
     }
 
@@ -1,6 +1,5 @@
 package com.moviehub.review.controller;
 
-import com.moviehub.review.dto.MovieResponseDto;
 import com.moviehub.review.dto.ReviewRequestDto;
 import com.moviehub.review.dto.ReviewResponseDto;
 import com.moviehub.review.service.ReviewService;
@@ -9,6 +8,8 @@ import jakarta.validation.Valid;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.validation.BindingResult;
@@ -16,7 +17,8 @@ import org.springframework.web.bind.annotation.*;
 import reactor.core.publisher.Mono;
 
 import java.security.Principal;
-import java.util.List;
+import java.util.Objects;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Controller
@@ -43,27 +45,26 @@ public class ReviewViewController {
             logger.debug("User {} accessing reviews list", principal.getName());
         }
 
-        return reviewService.getAllReviews()
-                .collectList()
-                .doOnNext(reviews -> logger.debug("Retrieved {} reviews", reviews.size()))
-                .flatMap(reviews -> movieService.getALlMovies()
-                        .collectMap(m -> m.getMovieId(), m -> m.getTitle())
-                        .defaultIfEmpty(java.util.Collections.emptyMap())
+        Sort newestFirst = Sort.by(Sort.Order.desc("createdAt"), Sort.Order.desc("_id"));
+        PageRequest pageRequest = PageRequest.of(Math.max(0, page), Math.max(1, size), newestFirst);
+
+        return reviewService.findReviews(pageRequest)
+                .doOnNext(reviews -> logger.debug("Retrieved {} of {} reviews",
+                        reviews.getNumberOfElements(), reviews.getTotalElements()))
+                .flatMap(reviews -> movieService.getMovieTitles(reviews.getContent().stream()
+                                .map(ReviewResponseDto::getMovieId)
+                                .filter(Objects::nonNull)
+                                .collect(Collectors.toSet()))
                         .doOnNext(movieTitles -> {
                             logger.debug("Retrieved {} movie titles for mapping", movieTitles.size());
 
-                            // Pagination logic
-                            int fromIndex = page * size;
-                            int toIndex = Math.min(fromIndex + size, reviews.size());
-                            List<ReviewResponseDto> pagedReviews = fromIndex < reviews.size() ?
-                                    reviews.subList(fromIndex, toIndex) : java.util.Collections.emptyList();
-
-                            model.addAttribute("reviews", pagedReviews);
+                            model.addAttribute("reviews", reviews.getContent());
                             model.addAttribute("movieTitles", movieTitles);
-                            model.addAttribute("currentPage", page);
-                            model.addAttribute("totalPages", (int) Math.ceil(reviews.size() / (double) size));
-                            model.addAttribute("hasNext", toIndex < reviews.size());
-                            model.addAttribute("hasPrevious", page > 0);
+                            model.addAttribute("currentPage", reviews.getNumber());
+                            model.addAttribute("totalPages", reviews.getTotalPages());
+                            model.addAttribute("totalReviews", reviews.getTotalElements());
+                            model.addAttribute("hasNext", reviews.hasNext());
+                            model.addAttribute("hasPrevious", reviews.hasPrevious());
                         }))
                 .then(Mono.just("reviews/list"))
                 .onErrorResume(error -> {
@@ -108,37 +109,8 @@ public class ReviewViewController {
         model.addAttribute("selectedMovieId", movieId);
         model.addAttribute("searchQuery", searchQuery);
 
-        // Filter movies based on search query
-        return movieService.getALlMovies()
-                .collectList()
-                .doOnNext(movies -> {
-                    List<MovieResponseDto> filteredMovies = movies;
-
-                    // Filter by search query if provided
-                    if (searchQuery != null && !searchQuery.trim().isEmpty()) {
-                        String query = searchQuery.toLowerCase().trim();
-                        filteredMovies = movies.stream()
-                                .filter(movie -> movie.getTitle().toLowerCase().contains(query))
-                                .collect(Collectors.toList());
-                        logger.debug("Filtered {} movies from {} total based on search: '{}'",
-                                filteredMovies.size(), movies.size(), searchQuery);
-                    }
-
-                    logger.debug("Loaded {} movies for review form dropdown", filteredMovies.size());
-                    model.addAttribute("movies", filteredMovies);
-                    model.addAttribute("totalMoviesCount", movies.size());
-                    model.addAttribute("filteredCount", filteredMovies.size());
-
-                    // Find selected movie title for display
-                    if (movieId != null) {
-                        movies.stream()
-                                .filter(movie -> movieId.equals(movie.getMovieId()))
-                                .findFirst()
-                                .ifPresent(movie -> model.addAttribute("selectedMovieTitle", movie.getTitle()));
-                    }
-                })
-                .doOnError(error -> logger.error("Error loading movies for create form: {}", error.getMessage(), error))
-                .thenReturn("reviews/create");
+        // Movie picker is a typeahead over /api/movies/suggest; only the selected title is resolved here
+        return renderReviewForm(model, movieId, "reviews/create");
     }
 
     @PostMapping("/create")
@@ -166,22 +138,7 @@ public class ReviewViewController {
                     "/movie/" + reviewRequestDto.getMovieId() : "/movie/all";
             model.addAttribute("cancelUrl", cancelUrl);
 
-            // Re-load and filter movies for dropdown on error
-            return movieService.getALlMovies()
-                    .collectList()
-                    .doOnNext(movies -> {
-                        List<MovieResponseDto> filteredMovies = movies;
-                        if (searchQuery != null && !searchQuery.trim().isEmpty()) {
-                            String query = searchQuery.toLowerCase().trim();
-                            filteredMovies = movies.stream()
-                                    .filter(movie -> movie.getTitle().toLowerCase().contains(query))
-                                    .collect(Collectors.toList());
-                        }
-                        model.addAttribute("movies", filteredMovies);
-                        model.addAttribute("totalMoviesCount", movies.size());
-                        model.addAttribute("filteredCount", filteredMovies.size());
-                    })
-                    .thenReturn("reviews/create");
+            return renderReviewForm(model, reviewRequestDto.getMovieId(), "reviews/create");
         }
 
         // Set userId from authenticated user if not already set
@@ -203,19 +160,7 @@ public class ReviewViewController {
                             "/movie/" + reviewRequestDto.getMovieId() : "/movie/all";
                     model.addAttribute("cancelUrl", cancelUrl);
 
-                    return movieService.getALlMovies()
-                            .collectList()
-                            .doOnNext(movies -> {
-                                List<MovieResponseDto> filteredMovies = movies;
-                                if (searchQuery != null && !searchQuery.trim().isEmpty()) {
-                                    String query = searchQuery.toLowerCase().trim();
-                                    filteredMovies = movies.stream()
-                                            .filter(movie -> movie.getTitle().toLowerCase().contains(query))
-                                            .collect(Collectors.toList());
-                                }
-                                model.addAttribute("movies", filteredMovies);
-                            })
-                            .thenReturn("reviews/create");
+                    return renderReviewForm(model, reviewRequestDto.getMovieId(), "reviews/create");
                 });
     }
 
@@ -237,13 +182,7 @@ public class ReviewViewController {
                     logger.debug("Retrieved review for editing: {}", reviewId);
                     model.addAttribute("review", review);
                 })
-                .flatMap(review -> movieService.getALlMovies()
-                        .collectList()
-                        .doOnNext(movies -> {
-                            logger.debug("Loaded {} movies for edit form", movies.size());
-                            model.addAttribute("movies", movies);
-                        })
-                        .thenReturn("reviews/edit"))
+                .flatMap(review -> renderReviewForm(model, review.getMovieId(), "reviews/edit"))
                 .onErrorResume(error -> {
                     logger.error("Error loading review {} for editing: {}", reviewId, error.getMessage(), error);
                     return Mono.just("reviews/error");
@@ -296,10 +235,7 @@ public class ReviewViewController {
         if (bindingResult.hasErrors()) {
             logger.warn("Validation errors while updating review {}: {}", reviewId, bindingResult.getAllErrors());
             model.addAttribute("review", requestDto);
-            return movieService.getALlMovies()
-                    .collectList()
-                    .doOnNext(movies -> model.addAttribute("movies", movies))
-                    .thenReturn("reviews/edit");
+            return renderReviewForm(model, requestDto.getMovieId(), "reviews/edit");
         }
 
         return reviewService.updateReview(requestDto, reviewId)
@@ -310,10 +246,7 @@ public class ReviewViewController {
                     model.addAttribute("error", "Failed to update review: " + error.getMessage());
                     return reviewService.getReviewById(reviewId)
                             .doOnNext(review -> model.addAttribute("review", review))
-                            .flatMap(review -> movieService.getALlMovies()
-                                    .collectList()
-                                    .doOnNext(movies -> model.addAttribute("movies", movies))
-                                    .thenReturn("reviews/edit"));
+                            .flatMap(review -> renderReviewForm(model, review.getMovieId(), "reviews/edit"));
                 });
     }
 
@@ -333,4 +266,16 @@ public class ReviewViewController {
                 .then(Mono.just("redirect:/reviews"))
                 .onErrorResume(error -> Mono.just("redirect:/reviews"));
     }
-}
\ No newline at end of file
+
+    private Mono<String> renderReviewForm(Model model, String movieId, String view) {
+        if (movieId == null || movieId.trim().isEmpty()) {
+            return Mono.just(view);
+        }
+
+        return movieService.getMovieTitles(Set.of(movieId))
+                .doOnNext(movieTitles -> model.addAttribute("selectedMovieTitle", movieTitles.get(movieId)))
+                .doOnError(error -> logger.error("Error resolving movie {} for review form: {}", movieId, error.getMessage(), error))
+                .onErrorResume(error -> Mono.empty())
+                .thenReturn(view);
+    }
+}
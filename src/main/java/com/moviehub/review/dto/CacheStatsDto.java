@@ -0,0 +1,14 @@
+package com.moviehub.review.dto;
+
+import lombok.Data;
+
+@Data
+public class CacheStatsDto {
+    private long estimatedSize;
+    private long weightedSize;
+    private long hitCount;
+    private long missCount;
+    private double hitRate;
+    private long evictionCount;
+    private long evictionWeight;
+}
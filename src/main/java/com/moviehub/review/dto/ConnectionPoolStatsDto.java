@@ -0,0 +1,14 @@
+package com.moviehub.review.dto;
+
+import lombok.Data;
+
+@Data
+public class ConnectionPoolStatsDto {
+    private String pool;
+    private int acquired;
+    private int allocated;
+    private int idle;
+    private int pendingAcquire;
+    private int maxAllocated;
+    private int maxPendingAcquire;
+}
@@ -0,0 +1,15 @@
+package com.moviehub.review.dto;
+
+import lombok.Value;
+
+import java.time.Instant;
+import java.util.List;
+
+@Value
+public class HomeFeedDto {
+    List<MovieSummaryDto> trending;
+    List<MovieSummaryDto> topRated;
+    List<MovieSummaryDto> newlyReleased;
+    List<MovieSummaryDto> upcoming;
+    Instant generatedAt;
+}
@@ -0,0 +1,12 @@
+package com.moviehub.review.dto;
+
+import lombok.Data;
+
+@Data
+public class HttpEndpointStatsDto {
+    private String endpoint;
+    private long calls;
+    private long errors;
+    private double averageLatencyMs;
+    private double maxLatencyMs;
+}
@@ -0,0 +1,15 @@
+package com.moviehub.review.dto;
+
+import lombok.Data;
+
+import java.util.List;
+import java.util.Map;
+
+@Data
+public class MovieFacetSearchDto {
+    private long totalElements;
+    private int page;
+    private int size;
+    private List<MovieSummaryDto> items;
+    private Map<String, Map<String, Integer>> facets;
+}
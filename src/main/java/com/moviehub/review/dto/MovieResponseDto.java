@@ -3,6 +3,7 @@ package com.moviehub.review.dto;
 import lombok.Data;
 
 import java.util.List;
+import java.util.Map;
 import java.time.LocalDate;
 
 @Data
@@ -15,6 +16,8 @@ public class MovieResponseDto {
     private LocalDate releaseDate;
     private Boolean released;
     private Double averageRating;
+    private Integer ratingCount;
+    private Map<String, Integer> ratingHistogram;
     private String overview;
     private String posterUrl;
     private String backdropUrl;
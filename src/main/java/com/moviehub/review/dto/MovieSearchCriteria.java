@@ -0,0 +1,25 @@
+package com.moviehub.review.dto;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Collection;
+
+@Data
+@NoArgsConstructor
+public class MovieSearchCriteria {
+    private String search;
+    private String genre;
+    private Integer year;
+    private Boolean released;
+
+    // Movies whose title fuzzily matches the search term; matched in addition to the title substring
+    private Collection<String> fuzzyMatchIds;
+
+    public MovieSearchCriteria(String search, String genre, Integer year, Boolean released) {
+        this.search = search;
+        this.genre = genre;
+        this.year = year;
+        this.released = released;
+    }
+}
@@ -0,0 +1,12 @@
+package com.moviehub.review.dto;
+
+import lombok.Data;
+
+@Data
+public class MovieSuggestionDto {
+    private String movieId;
+    private String title;
+    private String originalTitle;
+    private Integer releaseYear;
+    private String posterUrl;
+}
@@ -0,0 +1,16 @@
+package com.moviehub.review.dto;
+
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+public class MovieSummaryDto {
+    private String movieId;
+    private String title;
+    private List<String> genre;
+    private Integer releaseYear;
+    private Boolean released;
+    private Double averageRating;
+    private String posterUrl;
+}
@@ -0,0 +1,12 @@
+package com.moviehub.review.dto;
+
+import lombok.Data;
+
+@Data
+public class RateLimiterStatsDto {
+    private String name;
+    private double rate;
+    private double maxRate;
+    private long throttled;
+    private long waited;
+}
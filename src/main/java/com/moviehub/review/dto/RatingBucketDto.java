@@ -0,0 +1,14 @@
+package com.moviehub.review.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class RatingBucketDto {
+    private int stars;
+    private int count;
+    private double percentage;
+}
@@ -0,0 +1,13 @@
+package com.moviehub.review.dto;
+
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+public class RatingDistributionDto {
+    private String movieId;
+    private int totalRatings;
+    private Double averageRating;
+    private List<RatingBucketDto> buckets;
+}
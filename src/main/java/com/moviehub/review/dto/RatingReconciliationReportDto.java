@@ -0,0 +1,16 @@
+package com.moviehub.review.dto;
+
+import lombok.Data;
+
+import java.time.Instant;
+import java.util.List;
+
+@Data
+public class RatingReconciliationReportDto {
+    private Instant startedAt;
+    private long elapsedMillis;
+    private long moviesScanned;
+    private long moviesWithReviews;
+    private long driftedMovies;
+    private List<String> driftedMovieIds;
+}
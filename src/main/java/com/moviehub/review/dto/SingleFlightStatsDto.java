@@ -0,0 +1,12 @@
+package com.moviehub.review.dto;
+
+import lombok.Data;
+
+@Data
+public class SingleFlightStatsDto {
+    private String name;
+    private long calls;
+    private long collapsed;
+    private double collapsedRatio;
+    private int inFlight;
+}
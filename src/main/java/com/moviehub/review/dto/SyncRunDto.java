@@ -0,0 +1,23 @@
+package com.moviehub.review.dto;
+
+import lombok.Data;
+
+import java.time.Instant;
+
+@Data
+public class SyncRunDto {
+    private String runId;
+    private String mode;
+    private String status;
+    private Instant startedAt;
+    private Instant finishedAt;
+    private long activeMillis;
+    private int resumes;
+    private int pagesFetched;
+    private int pagesFailed;
+    private int moviesSeen;
+    private int moviesCreated;
+    private int moviesRefreshed;
+    private double pagesPerMinute;
+    private String error;
+}
@@ -0,0 +1,27 @@
+package com.moviehub.review.event;
+
+import com.moviehub.review.model.Movie;
+import lombok.Getter;
+
+@Getter
+public class MovieChangedEvent {
+    private final String movieId;
+    private final Movie movie;
+
+    private MovieChangedEvent(String movieId, Movie movie) {
+        this.movieId = movieId;
+        this.movie = movie;
+    }
+
+    public static MovieChangedEvent saved(Movie movie) {
+        return new MovieChangedEvent(movie.getMovieId(), movie);
+    }
+
+    public static MovieChangedEvent deleted(String movieId) {
+        return new MovieChangedEvent(movieId, null);
+    }
+
+    public boolean isDeleted() {
+        return movie == null;
+    }
+}
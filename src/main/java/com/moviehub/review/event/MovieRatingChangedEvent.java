@@ -0,0 +1,13 @@
+package com.moviehub.review.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class MovieRatingChangedEvent {
+    private final String movieId;
+    private final Integer ratingSum;
+    private final Integer ratingCount;
+    private final Double averageRating;
+}
@@ -0,0 +1,12 @@
+package com.moviehub.review.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+public class MoviesReleasedEvent {
+    private final List<String> movieIds;
+}
@@ -0,0 +1,38 @@
+package com.moviehub.review.event;
+
+import com.moviehub.review.model.Review;
+import lombok.Getter;
+
+import java.time.Instant;
+
+@Getter
+public class ReviewChangedEvent {
+
+    public enum Type { CREATED, UPDATED, DELETED }
+
+    private final Type type;
+    private final String reviewId;
+    private final String movieId;
+    private final Integer rating;
+    private final Instant occurredAt;
+
+    private ReviewChangedEvent(Type type, Review review) {
+        this.type = type;
+        this.reviewId = review.getReviewId();
+        this.movieId = review.getMovieId();
+        this.rating = review.getRating();
+        this.occurredAt = Instant.now();
+    }
+
+    public static ReviewChangedEvent created(Review review) {
+        return new ReviewChangedEvent(Type.CREATED, review);
+    }
+
+    public static ReviewChangedEvent updated(Review review) {
+        return new ReviewChangedEvent(Type.UPDATED, review);
+    }
+
+    public static ReviewChangedEvent deleted(Review review) {
+        return new ReviewChangedEvent(Type.DELETED, review);
+    }
+}
@@ -1,7 +1,8 @@
 package com.moviehub.review.exception;
 
 public class MovieNotFoundException extends RuntimeException {
+    // Thrown for every unknown id a client asks for, so skip the stack trace capture
     public MovieNotFoundException(String message) {
-        super(message);
+        super(message, null, false, false);
     }
 }
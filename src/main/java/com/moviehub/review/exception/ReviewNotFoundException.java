@@ -1,7 +1,7 @@
 package com.moviehub.review.exception;
 
-public class ReviewNotFoundException extends RuntimeException{
-    public ReviewNotFoundException(String message){
-        super(message);
+public class ReviewNotFoundException extends RuntimeException {
+    public ReviewNotFoundException(String message) {
+        super(message, null, false, false);
     }
 }
@@ -0,0 +1,24 @@
+package com.moviehub.review.mapper;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.moviehub.review.dto.CacheStatsDto;
+
+public class CacheStatsMapper {
+
+    public static CacheStatsDto toDto(Cache<?, ?> cache) {
+        CacheStats stats = cache.stats();
+
+        CacheStatsDto dto = new CacheStatsDto();
+        dto.setEstimatedSize(cache.estimatedSize());
+        dto.setWeightedSize(cache.policy().eviction()
+                .flatMap(eviction -> eviction.weightedSize().stream().boxed().findFirst())
+                .orElse(0L));
+        dto.setHitCount(stats.hitCount());
+        dto.setMissCount(stats.missCount());
+        dto.setHitRate(stats.hitRate());
+        dto.setEvictionCount(stats.evictionCount());
+        dto.setEvictionWeight(stats.evictionWeight());
+        return dto;
+    }
+}
@@ -0,0 +1,45 @@
+package com.moviehub.review.mapper;
+
+import com.moviehub.review.dto.ConnectionPoolStatsDto;
+import com.moviehub.review.dto.HttpEndpointStatsDto;
+import com.moviehub.review.dto.RateLimiterStatsDto;
+import com.moviehub.review.util.AdaptiveRateLimiter;
+import com.moviehub.review.util.HttpClientMetrics;
+import reactor.netty.resources.ConnectionPoolMetrics;
+
+public class HttpClientStatsMapper {
+
+    private static final double NANOS_PER_MILLI = 1_000_000.0;
+
+    public static HttpEndpointStatsDto toDto(String endpoint, HttpClientMetrics.Endpoint metrics) {
+        HttpEndpointStatsDto dto = new HttpEndpointStatsDto();
+        dto.setEndpoint(endpoint);
+        dto.setCalls(metrics.getCalls());
+        dto.setErrors(metrics.getErrors());
+        dto.setAverageLatencyMs(metrics.getCalls() > 0 ? metrics.getTotalNanos() / NANOS_PER_MILLI / metrics.getCalls() : 0.0);
+        dto.setMaxLatencyMs(metrics.getMaxNanos() / NANOS_PER_MILLI);
+        return dto;
+    }
+
+    public static ConnectionPoolStatsDto toDto(String pool, ConnectionPoolMetrics metrics) {
+        ConnectionPoolStatsDto dto = new ConnectionPoolStatsDto();
+        dto.setPool(pool);
+        dto.setAcquired(metrics.acquiredSize());
+        dto.setAllocated(metrics.allocatedSize());
+        dto.setIdle(metrics.idleSize());
+        dto.setPendingAcquire(metrics.pendingAcquireSize());
+        dto.setMaxAllocated(metrics.maxAllocatedSize());
+        dto.setMaxPendingAcquire(metrics.maxPendingAcquireSize());
+        return dto;
+    }
+
+    public static RateLimiterStatsDto toDto(AdaptiveRateLimiter limiter) {
+        RateLimiterStatsDto dto = new RateLimiterStatsDto();
+        dto.setName(limiter.getName());
+        dto.setRate(limiter.getRate());
+        dto.setMaxRate(limiter.getMaxRate());
+        dto.setThrottled(limiter.getThrottled());
+        dto.setWaited(limiter.getWaited());
+        return dto;
+    }
+}
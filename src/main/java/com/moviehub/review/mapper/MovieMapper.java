@@ -2,8 +2,10 @@ package com.moviehub.review.mapper;
 
 import com.moviehub.review.dto.*;
 import com.moviehub.review.model.*;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 public class MovieMapper {
@@ -22,6 +24,8 @@ public class MovieMapper {
         dto.setReleaseDate(movie.getReleaseDate());
         dto.setReleased(movie.getReleased());
         dto.setAverageRating(movie.getAverageRating());
+        dto.setRatingCount(movie.getRatingCount());
+        dto.setRatingHistogram(movie.getRatingHistogram());
         dto.setOverview(movie.getOverview());
         dto.setPosterUrl(movie.getPosterUrl());
         dto.setBackdropUrl(movie.getBackdropUrl());
@@ -54,6 +58,76 @@ public class MovieMapper {
         return dto;
     }
 
+    public static MovieSuggestionDto toSuggestionDto(Movie movie) {
+        if (movie == null) {
+            return null;
+        }
+
+        MovieSuggestionDto dto = new MovieSuggestionDto();
+        dto.setMovieId(movie.getMovieId());
+        dto.setTitle(movie.getTitle());
+        dto.setOriginalTitle(movie.getOriginalTitle());
+        dto.setReleaseYear(movie.getReleaseYear());
+        dto.setPosterUrl(movie.getPosterUrl());
+        return dto;
+    }
+
+    public static MovieSummaryDto toSummaryDto(Movie movie) {
+        if (movie == null) {
+            return null;
+        }
+
+        MovieSummaryDto dto = new MovieSummaryDto();
+        dto.setMovieId(movie.getMovieId());
+        dto.setTitle(movie.getTitle());
+        dto.setGenre(movie.getGenre());
+        dto.setReleaseYear(movie.getReleaseYear());
+        dto.setReleased(movie.getReleased());
+        dto.setAverageRating(movie.getAverageRating());
+        dto.setPosterUrl(movie.getPosterUrl());
+        return dto;
+    }
+
+    public static MovieSummaryDto toSummaryDto(MovieSummary summary) {
+        if (summary == null) {
+            return null;
+        }
+
+        MovieSummaryDto dto = new MovieSummaryDto();
+        dto.setMovieId(summary.getMovieId());
+        dto.setTitle(summary.getTitle());
+        dto.setGenre(summary.getGenre());
+        dto.setReleaseYear(summary.getReleaseYear());
+        dto.setReleased(summary.getReleased());
+        dto.setAverageRating(summary.getAverageRating());
+        dto.setPosterUrl(summary.getPosterUrl());
+        return dto;
+    }
+
+    public static RatingDistributionDto toRatingDistributionDto(String movieId, Map<String, Integer> histogram,
+                                                                Double averageRating) {
+        int total = 0;
+        int[] counts = new int[6];
+        for (int stars = 1; stars <= 5; stars++) {
+            Integer count = histogram != null ? histogram.get(String.valueOf(stars)) : null;
+            counts[stars] = count != null ? Math.max(0, count) : 0;
+            total += counts[stars];
+        }
+
+        List<RatingBucketDto> buckets = new ArrayList<>();
+        for (int stars = 5; stars >= 1; stars--) {
+            double percentage = total > 0 ? counts[stars] * 100.0 / total : 0.0;
+            buckets.add(new RatingBucketDto(stars, counts[stars], percentage));
+        }
+
+        RatingDistributionDto dto = new RatingDistributionDto();
+        dto.setMovieId(movieId);
+        dto.setTotalRatings(total);
+        dto.setAverageRating(averageRating != null ? averageRating : 0.0);
+        dto.setBuckets(buckets);
+        return dto;
+    }
+
     public static Movie toEntity(MovieRequestDto requestDto) {
         if (requestDto == null) {
             return null;
@@ -0,0 +1,30 @@
+package com.moviehub.review.mapper;
+
+import com.moviehub.review.dto.SyncRunDto;
+import com.moviehub.review.model.SyncRun;
+
+public class SyncRunMapper {
+
+    public static SyncRunDto toDto(SyncRun run) {
+        if (run == null) {
+            return null;
+        }
+
+        SyncRunDto dto = new SyncRunDto();
+        dto.setRunId(run.getRunId());
+        dto.setMode(run.getMode() != null ? run.getMode().name() : null);
+        dto.setStatus(run.getStatus() != null ? run.getStatus().name() : null);
+        dto.setStartedAt(run.getStartedAt());
+        dto.setFinishedAt(run.getFinishedAt());
+        dto.setActiveMillis(run.getActiveMillis());
+        dto.setResumes(run.getResumes());
+        dto.setPagesFetched(run.getPagesFetched());
+        dto.setPagesFailed(run.getPagesFailed());
+        dto.setMoviesSeen(run.getMoviesSeen());
+        dto.setMoviesCreated(run.getMoviesCreated());
+        dto.setMoviesRefreshed(run.getMoviesRefreshed());
+        dto.setPagesPerMinute(run.getActiveMillis() > 0 ? run.getPagesFetched() * 60_000.0 / run.getActiveMillis() : 0.0);
+        dto.setError(run.getError());
+        return dto;
+    }
+}
@@ -2,16 +2,25 @@ package com.moviehub.review.model;
 
 import lombok.Data;
 import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
 import org.springframework.data.mongodb.core.index.Indexed;
 import org.springframework.data.mongodb.core.mapping.Document;
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Map;
 
 @Document(collection = "movies")
+@CompoundIndex(name = "released_releaseYear_id", def = "{'released': 1, 'releaseYear': -1, '_id': 1}")
+@CompoundIndex(name = "title_id", def = "{'title': 1, '_id': 1}")
+@CompoundIndex(name = "released_releaseDate", def = "{'released': 1, 'releaseDate': 1}")
+@CompoundIndex(name = "averageRating_ratingCount", def = "{'averageRating': -1, 'ratingCount': 1}")
 @Data
 public class Movie {
+    public static final String TITLE_COLLATION = "{ 'locale': 'en', 'strength': 2 }";
+
     @Id
     private String movieId;
+    @Indexed(name = "title_ci", collation = TITLE_COLLATION)
     private String title;
     private String originalTitle;
     private List<String> genre;
@@ -19,6 +28,9 @@ public class Movie {
     private LocalDate releaseDate;
     private Boolean released;
     private Double averageRating;
+    private Integer ratingSum;
+    private Integer ratingCount;
+    private Map<String, Integer> ratingHistogram;
     private String overview;
     private String posterUrl;
     private String backdropUrl;
@@ -0,0 +1,18 @@
+package com.moviehub.review.model;
+
+import lombok.Data;
+import org.springframework.data.annotation.Id;
+
+import java.util.List;
+
+@Data
+public class MovieSummary {
+    @Id
+    private String movieId;
+    private String title;
+    private List<String> genre;
+    private Integer releaseYear;
+    private Boolean released;
+    private Double averageRating;
+    private String posterUrl;
+}
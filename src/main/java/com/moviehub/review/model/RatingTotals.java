@@ -0,0 +1,20 @@
+package com.moviehub.review.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+
+import java.util.Map;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class RatingTotals {
+    @Id
+    private String movieId;
+    private Integer ratingSum;
+    private Integer ratingCount;
+    private Double averageRating;
+    private Map<String, Integer> ratingHistogram;
+}
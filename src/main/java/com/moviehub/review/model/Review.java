@@ -2,11 +2,14 @@ package com.moviehub.review.model;
 
 import lombok.Data;
 import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
 import org.springframework.data.mongodb.core.mapping.Document;
 
 import java.time.Instant;
 
 @Document
+@CompoundIndex(name = "createdAt_id", def = "{'createdAt': -1, '_id': -1}")
+@CompoundIndex(name = "movieId_createdAt_id", def = "{'movieId': 1, 'createdAt': -1, '_id': -1}")
 @Data
 public class Review {
 
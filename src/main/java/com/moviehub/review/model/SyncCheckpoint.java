@@ -0,0 +1,18 @@
+package com.moviehub.review.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class SyncCheckpoint {
+    private String runId;
+    private String language;
+    private Integer year;
+    private Integer page;
+    private Instant updatedAt;
+}
@@ -0,0 +1,22 @@
+package com.moviehub.review.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.Instant;
+
+@Document(collection = "sync_leases")
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class SyncLease {
+    @Id
+    private String name;
+    private String owner;
+    private Instant acquiredAt;
+    private Instant heartbeatAt;
+    private Instant expiresAt;
+}
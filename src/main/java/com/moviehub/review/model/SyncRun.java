@@ -0,0 +1,42 @@
+package com.moviehub.review.model;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.Indexed;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.Instant;
+
+@Document(collection = "sync_runs")
+@Data
+@NoArgsConstructor
+public class SyncRun {
+
+    public enum Mode { FULL, INCREMENTAL }
+
+    public enum Status { RUNNING, COMPLETED, FAILED }
+
+    @Id
+    private String runId;
+    private Mode mode;
+    private Status status;
+    @Indexed
+    private Instant startedAt;
+    private Instant finishedAt;
+    private long activeMillis;
+    private int resumes;
+    private int pagesFetched;
+    private int pagesFailed;
+    private int moviesSeen;
+    private int moviesCreated;
+    private int moviesRefreshed;
+    private String error;
+
+    public SyncRun(String runId, Mode mode) {
+        this.runId = runId;
+        this.mode = mode;
+        this.status = Status.RUNNING;
+        this.startedAt = Instant.now();
+    }
+}
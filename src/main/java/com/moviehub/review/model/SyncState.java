@@ -0,0 +1,22 @@
+package com.moviehub.review.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.Instant;
+
+@Document(collection = "sync_state")
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class SyncState {
+    @Id
+    private String id;
+    private Instant changesWatermark;
+    private Instant lastIncrementalSyncAt;
+    private Instant lastFullSyncAt;
+    private SyncCheckpoint checkpoint;
+}
@@ -0,0 +1,20 @@
+package com.moviehub.review.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.Instant;
+
+@Document(collection = "trending_scores")
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class TrendingScore {
+    @Id
+    private String movieId;
+    private Double score;
+    private Instant updatedAt;
+}
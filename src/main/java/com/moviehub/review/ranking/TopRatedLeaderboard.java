@@ -0,0 +1,299 @@
+package com.moviehub.review.ranking;
+
+import com.moviehub.review.dto.MovieSummaryDto;
+import com.moviehub.review.event.MovieChangedEvent;
+import com.moviehub.review.event.MovieRatingChangedEvent;
+import com.moviehub.review.event.MoviesReleasedEvent;
+import com.moviehub.review.mapper.MovieMapper;
+import com.moviehub.review.model.Movie;
+import com.moviehub.review.repository.MovieRepository;
+import com.moviehub.review.util.RebuildBuffer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+
+/**
+ * Movies ranked by Bayesian average, {@code (priorWeight * globalMean + ratingSum) / (priorWeight + ratingCount)},
+ * so a movie needs a body of ratings before it can outrank well-reviewed ones. The global mean is fixed at each
+ * rebuild; rating events between rebuilds only re-score the movie they touch. Sorted sets are kept per genre and
+ * per release year as well, so a filtered top-k walks one set instead of the whole ranking.
+ */
+@Component
+public class TopRatedLeaderboard {
+
+    private static final Logger logger = LoggerFactory.getLogger(TopRatedLeaderboard.class);
+
+    private static final Comparator<Entry> BY_SCORE = Comparator
+            .comparingDouble((Entry entry) -> entry.score).reversed()
+            .thenComparing(entry -> entry.summary.getMovieId());
+
+    @Autowired
+    private MovieRepository movieRepository;
+
+    @Value("${movies.leaderboard.prior-weight:10}")
+    private double priorWeight;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private Ranking ranking = new Ranking(0.0);
+    private final RebuildBuffer<Ranking> rebuildBuffer = new RebuildBuffer<>();
+
+    public List<MovieSummaryDto> top(String genre, Integer year, int limit) {
+        lock.readLock().lock();
+        try {
+            NavigableSet<Entry> byGenre = genre != null ? ranking.byGenre.getOrDefault(genre, new TreeSet<>(BY_SCORE)) : null;
+            NavigableSet<Entry> byYear = year != null ? ranking.byYear.getOrDefault(year, new TreeSet<>(BY_SCORE)) : null;
+
+            NavigableSet<Entry> source = ranking.all;
+            if (byGenre != null && (byYear == null || byGenre.size() <= byYear.size())) {
+                source = byGenre;
+            } else if (byYear != null) {
+                source = byYear;
+            }
+
+            List<MovieSummaryDto> top = new ArrayList<>(Math.min(limit, source.size()));
+            for (Entry entry : source) {
+                if (top.size() >= limit) {
+                    break;
+                }
+                if ((byGenre == null || entry.genres.contains(genre))
+                        && (byYear == null || year.equals(entry.summary.getReleaseYear()))) {
+                    top.add(entry.summary);
+                }
+            }
+            return top;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${movies.leaderboard.rebuild-interval-ms:3600000}",
+            initialDelayString = "${movies.leaderboard.rebuild-interval-ms:3600000}")
+    public void rebuild() {
+        lock.writeLock().lock();
+        try {
+            if (!rebuildBuffer.start()) {
+                logger.info("Top rated leaderboard rebuild already in progress, skipping");
+                return;
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+        logger.info("Rebuilding top rated leaderboard");
+
+        movieRepository.findLeaderboardSources()
+                .collectList()
+                .subscribe(movies -> {
+                    long ratingSum = 0;
+                    long ratingCount = 0;
+                    for (Movie movie : movies) {
+                        ratingSum += movie.getRatingSum() != null ? movie.getRatingSum() : 0;
+                        ratingCount += movie.getRatingCount() != null ? movie.getRatingCount() : 0;
+                    }
+
+                    Ranking rebuilt = new Ranking(ratingCount > 0 ? (double) ratingSum / ratingCount : 0.0);
+                    movies.forEach(movie -> rebuilt.put(entryFor(movie, rebuilt.globalMean)));
+
+                    int replayed;
+                    lock.writeLock().lock();
+                    try {
+                        replayed = rebuildBuffer.replayOnto(rebuilt);
+                        ranking = rebuilt;
+                    } finally {
+                        lock.writeLock().unlock();
+                    }
+                    logger.info("Top rated leaderboard rebuilt with {} movies, global mean {}, {} changes replayed",
+                            rebuilt.byId.size(), rebuilt.globalMean, replayed);
+                }, error -> {
+                    lock.writeLock().lock();
+                    try {
+                        rebuildBuffer.abandon();
+                    } finally {
+                        lock.writeLock().unlock();
+                    }
+                    logger.error("Failed to rebuild top rated leaderboard: {}", error.getMessage(), error);
+                });
+    }
+
+    @EventListener
+    public void onMovieRatingChanged(MovieRatingChangedEvent event) {
+        boolean rated = event.getRatingCount() != null && event.getRatingCount() > 0;
+        boolean unranked;
+        lock.writeLock().lock();
+        try {
+            unranked = rated && !ranking.byId.containsKey(event.getMovieId());
+            apply(target -> {
+                Entry previous = target.remove(event.getMovieId());
+                if (previous != null && rated) {
+                    MovieSummaryDto summary = copyOf(previous.summary);
+                    summary.setAverageRating(event.getAverageRating());
+                    target.put(new Entry(summary, previous.genres,
+                            score(event.getRatingSum(), event.getRatingCount(), target.globalMean)));
+                }
+            });
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        // First rating for this movie: the event carries no title or genres, so load them once
+        if (unranked) {
+            movieRepository.findById(event.getMovieId())
+                    .subscribe(this::index,
+                            error -> logger.error("Failed to add movie {} to top rated leaderboard: {}",
+                                    event.getMovieId(), error.getMessage(), error));
+        }
+    }
+
+    @EventListener
+    public void onMovieChanged(MovieChangedEvent event) {
+        if (event.isDeleted()) {
+            lock.writeLock().lock();
+            try {
+                apply(target -> target.remove(event.getMovieId()));
+            } finally {
+                lock.writeLock().unlock();
+            }
+        } else {
+            index(event.getMovie());
+        }
+    }
+
+    @EventListener
+    public void onMoviesReleased(MoviesReleasedEvent event) {
+        lock.writeLock().lock();
+        try {
+            apply(target -> {
+                for (String movieId : event.getMovieIds()) {
+                    Entry entry = target.remove(movieId);
+                    if (entry != null) {
+                        MovieSummaryDto summary = copyOf(entry.summary);
+                        summary.setReleased(true);
+                        target.put(new Entry(summary, entry.genres, entry.score));
+                    }
+                }
+            });
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void index(Movie movie) {
+        lock.writeLock().lock();
+        try {
+            apply(target -> {
+                target.remove(movie.getMovieId());
+                if (movie.getRatingCount() != null && movie.getRatingCount() > 0) {
+                    target.put(entryFor(movie, target.globalMean));
+                }
+            });
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // Caller holds the write lock; the change is kept for replay if a rebuild is loading
+    private void apply(Consumer<Ranking> change) {
+        change.accept(ranking);
+        rebuildBuffer.record(change);
+    }
+
+    private Entry entryFor(Movie movie, double globalMean) {
+        Set<String> genres = new LinkedHashSet<>();
+        if (movie.getGenre() != null) {
+            movie.getGenre().stream()
+                    .filter(genre -> genre != null && !genre.isBlank())
+                    .forEach(genre -> genres.add(genre.trim()));
+        }
+        return new Entry(MovieMapper.toSummaryDto(movie), genres,
+                score(movie.getRatingSum(), movie.getRatingCount(), globalMean));
+    }
+
+    private double score(Integer ratingSum, Integer ratingCount, double globalMean) {
+        int sum = ratingSum != null ? ratingSum : 0;
+        int count = ratingCount != null ? ratingCount : 0;
+        return (priorWeight * globalMean + sum) / (priorWeight + count);
+    }
+
+    private MovieSummaryDto copyOf(MovieSummaryDto summary) {
+        MovieSummaryDto copy = new MovieSummaryDto();
+        copy.setMovieId(summary.getMovieId());
+        copy.setTitle(summary.getTitle());
+        copy.setGenre(summary.getGenre());
+        copy.setReleaseYear(summary.getReleaseYear());
+        copy.setReleased(summary.getReleased());
+        copy.setAverageRating(summary.getAverageRating());
+        copy.setPosterUrl(summary.getPosterUrl());
+        return copy;
+    }
+
+    private static final class Ranking {
+        private final double globalMean;
+        private final NavigableSet<Entry> all = new TreeSet<>(BY_SCORE);
+        private final Map<String, NavigableSet<Entry>> byGenre = new HashMap<>();
+        private final Map<Integer, NavigableSet<Entry>> byYear = new HashMap<>();
+        private final Map<String, Entry> byId = new HashMap<>();
+
+        private Ranking(double globalMean) {
+            this.globalMean = globalMean;
+        }
+
+        private void put(Entry entry) {
+            byId.put(entry.summary.getMovieId(), entry);
+            all.add(entry);
+            entry.genres.forEach(genre -> byGenre.computeIfAbsent(genre, g -> new TreeSet<>(BY_SCORE)).add(entry));
+            if (entry.summary.getReleaseYear() != null) {
+                byYear.computeIfAbsent(entry.summary.getReleaseYear(), y -> new TreeSet<>(BY_SCORE)).add(entry);
+            }
+        }
+
+        private Entry remove(String movieId) {
+            Entry entry = byId.remove(movieId);
+            if (entry == null) {
+                return null;
+            }
+
+            all.remove(entry);
+            for (String genre : entry.genres) {
+                NavigableSet<Entry> entries = byGenre.get(genre);
+                if (entries != null && entries.remove(entry) && entries.isEmpty()) {
+                    byGenre.remove(genre);
+                }
+            }
+            Integer year = entry.summary.getReleaseYear();
+            NavigableSet<Entry> entries = year != null ? byYear.get(year) : null;
+            if (entries != null && entries.remove(entry) && entries.isEmpty()) {
+                byYear.remove(year);
+            }
+            return entry;
+        }
+    }
+
+    private static final class Entry {
+        private final MovieSummaryDto summary;
+        private final Set<String> genres;
+        private final double score;
+
+        private Entry(MovieSummaryDto summary, Set<String> genres, double score) {
+            this.summary = summary;
+            this.genres = genres;
+            this.score = score;
+        }
+    }
+}
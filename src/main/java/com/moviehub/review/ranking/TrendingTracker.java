@@ -0,0 +1,234 @@
+package com.moviehub.review.ranking;
+
+import com.moviehub.review.event.MovieChangedEvent;
+import com.moviehub.review.event.ReviewChangedEvent;
+import com.moviehub.review.model.TrendingScore;
+import com.moviehub.review.repository.TrendingScoreRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Exponentially decayed review activity per movie. Each movie keeps only its score and the time it was last
+ * touched; decay is applied when the score is next read or bumped, so idle movies cost nothing. State is
+ * checkpointed to {@code trending_scores} and merged back in on startup.
+ */
+@Component
+public class TrendingTracker {
+
+    private static final Logger logger = LoggerFactory.getLogger(TrendingTracker.class);
+
+    private static final double CREATED_WEIGHT = 1.0;
+    private static final double UPDATED_WEIGHT = 0.5;
+
+    @Autowired
+    private TrendingScoreRepository trendingScoreRepository;
+
+    @Value("${movies.trending.half-life:3d}")
+    private Duration halfLife;
+
+    @Value("${movies.trending.min-score:0.01}")
+    private double minScore;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<String, Score> scores = new HashMap<>();
+    private final Set<String> dirty = new HashSet<>();
+    private final Set<String> evicted = new HashSet<>();
+
+    public List<String> topMovieIds(int limit) {
+        if (limit <= 0) {
+            return new ArrayList<>();
+        }
+        Instant now = Instant.now();
+        Comparator<Map.Entry<String, Double>> byScore = Map.Entry.comparingByValue();
+        PriorityQueue<Map.Entry<String, Double>> top = new PriorityQueue<>(limit + 1, byScore);
+
+        lock.readLock().lock();
+        try {
+            for (Map.Entry<String, Score> entry : scores.entrySet()) {
+                double value = entry.getValue().valueAt(now, halfLife);
+                if (value < minScore) {
+                    continue;
+                }
+                if (top.size() < limit) {
+                    top.add(Map.entry(entry.getKey(), value));
+                } else if (value > top.peek().getValue()) {
+                    top.poll();
+                    top.add(Map.entry(entry.getKey(), value));
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        List<Map.Entry<String, Double>> ranked = new ArrayList<>(top);
+        ranked.sort(byScore.reversed());
+        List<String> movieIds = new ArrayList<>(ranked.size());
+        ranked.forEach(entry -> movieIds.add(entry.getKey()));
+        return movieIds;
+    }
+
+    @EventListener
+    public void onReviewChanged(ReviewChangedEvent event) {
+        double weight = switch (event.getType()) {
+            case CREATED -> CREATED_WEIGHT;
+            case UPDATED -> UPDATED_WEIGHT;
+            case DELETED -> 0.0;
+        };
+        if (weight > 0 && event.getMovieId() != null) {
+            add(event.getMovieId(), weight, event.getOccurredAt(), true);
+        }
+    }
+
+    @EventListener
+    public void onMovieChanged(MovieChangedEvent event) {
+        if (!event.isDeleted()) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            if (scores.remove(event.getMovieId()) != null) {
+                dirty.remove(event.getMovieId());
+                evicted.add(event.getMovieId());
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void restore() {
+        logger.info("Restoring trending scores from checkpoint");
+
+        trendingScoreRepository.findAll()
+                .collectList()
+                .subscribe(saved -> {
+                    saved.forEach(score -> add(score.getMovieId(), score.getScore(), score.getUpdatedAt(), false));
+                    logger.info("Restored {} trending scores", saved.size());
+                }, error -> logger.error("Failed to restore trending scores: {}", error.getMessage(), error));
+    }
+
+    @Scheduled(fixedDelayString = "${movies.trending.checkpoint-interval-ms:300000}",
+            initialDelayString = "${movies.trending.checkpoint-interval-ms:300000}")
+    public void scheduledCheckpoint() {
+        checkpoint().subscribe(null,
+                error -> logger.error("Scheduled trending checkpoint failed: {}", error.getMessage()));
+    }
+
+    public Mono<Void> checkpoint() {
+        Instant now = Instant.now();
+        List<TrendingScore> changed = new ArrayList<>();
+        Set<String> removed = new HashSet<>();
+
+        lock.writeLock().lock();
+        try {
+            scores.entrySet().removeIf(entry -> {
+                if (entry.getValue().valueAt(now, halfLife) < minScore) {
+                    removed.add(entry.getKey());
+                    return true;
+                }
+                return false;
+            });
+            dirty.removeAll(removed);
+            removed.addAll(evicted);
+            for (String movieId : dirty) {
+                Score score = scores.get(movieId);
+                changed.add(new TrendingScore(movieId, score.value, score.updatedAt));
+            }
+            dirty.clear();
+            evicted.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        if (changed.isEmpty() && removed.isEmpty()) {
+            return Mono.empty();
+        }
+        logger.debug("Checkpointing {} trending scores, removing {}", changed.size(), removed.size());
+
+        return trendingScoreRepository.saveAll(changed).then()
+                .then(trendingScoreRepository.deleteAllById(removed))
+                .doOnError(error -> {
+                    logger.error("Failed to checkpoint trending scores: {}", error.getMessage(), error);
+                    requeue(changed, removed);
+                });
+    }
+
+    private void add(String movieId, double weight, Instant at, boolean changed) {
+        lock.writeLock().lock();
+        try {
+            Score score = scores.get(movieId);
+            scores.put(movieId, score == null ? new Score(weight, at) : score.plus(weight, at, halfLife));
+            if (changed) {
+                dirty.add(movieId);
+                evicted.remove(movieId);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void requeue(List<TrendingScore> changed, Set<String> removed) {
+        lock.writeLock().lock();
+        try {
+            changed.forEach(score -> {
+                if (scores.containsKey(score.getMovieId())) {
+                    dirty.add(score.getMovieId());
+                }
+            });
+            removed.forEach(movieId -> {
+                if (!scores.containsKey(movieId)) {
+                    evicted.add(movieId);
+                }
+            });
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private static final class Score {
+        private final double value;
+        private final Instant updatedAt;
+
+        private Score(double value, Instant updatedAt) {
+            this.value = value;
+            this.updatedAt = updatedAt;
+        }
+
+        private double valueAt(Instant at, Duration halfLife) {
+            return decay(value, updatedAt, at, halfLife);
+        }
+
+        // Activity can arrive out of order (a checkpoint restored after live events), so decay
+        // whichever side is older up to the newer timestamp before adding.
+        private Score plus(double weight, Instant at, Duration halfLife) {
+            if (at.isAfter(updatedAt)) {
+                return new Score(decay(value, updatedAt, at, halfLife) + weight, at);
+            }
+            return new Score(value + decay(weight, at, updatedAt, halfLife), updatedAt);
+        }
+
+        private static double decay(double value, Instant from, Instant to, Duration halfLife) {
+            double elapsed = Duration.between(from, to).toMillis();
+            return elapsed <= 0 ? value : value * Math.pow(0.5, elapsed / halfLife.toMillis());
+        }
+    }
+}
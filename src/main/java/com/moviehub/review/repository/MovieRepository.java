@@ -1,12 +1,37 @@
 package com.moviehub.review.repository;
 
 import com.moviehub.review.model.Movie;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.mongodb.core.annotation.Collation;
+import org.springframework.data.mongodb.repository.Query;
 import org.springframework.data.mongodb.repository.ReactiveMongoRepository;
 import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.util.Collection;
+
 @Repository
-public interface MovieRepository extends ReactiveMongoRepository<Movie, String> {
-    Mono<Movie> findByTitleIgnoreCase(String title);
+public interface MovieRepository extends ReactiveMongoRepository<Movie, String>, MovieRepositoryCustom {
+    @Collation(Movie.TITLE_COLLATION)
+    Mono<Movie> findFirstByTitle(String title);
+
+    @Collation(Movie.TITLE_COLLATION)
+    Mono<Boolean> existsByTitle(String title);
+
     Mono<Movie> findByTmdbId(String tmdbId);
-}
\ No newline at end of file
+
+    Flux<Movie> findByTmdbIdIn(Collection<String> tmdbIds);
+
+    @Query(value = "{}", sort = "{ 'title': 1, '_id': 1 }")
+    Flux<Movie> findFirstPageByTitle(Pageable pageable);
+
+    @Query(value = "{ '$or': [ { 'title': { '$gt': ?0 } }, { 'title': ?0, '_id': { '$gt': ?1 } } ] }",
+            sort = "{ 'title': 1, '_id': 1 }")
+    Flux<Movie> findPageAfterTitle(String title, Object movieId, Pageable pageable);
+
+    // Movies without a title sort before every titled one, so every titled movie still follows them
+    @Query(value = "{ '$or': [ { 'title': null, '_id': { '$gt': ?0 } }, { 'title': { '$ne': null } } ] }",
+            sort = "{ 'title': 1, '_id': 1 }")
+    Flux<Movie> findPageAfterMissingTitle(Object movieId, Pageable pageable);
+}
@@ -0,0 +1,39 @@
+package com.moviehub.review.repository;
+
+import com.moviehub.review.dto.MovieSearchCriteria;
+import com.moviehub.review.model.Movie;
+import com.moviehub.review.model.MovieSummary;
+import com.moviehub.review.model.RatingTotals;
+import org.springframework.data.domain.Pageable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+public interface MovieRepositoryCustom {
+    Flux<MovieSummary> searchMovieSummaries(MovieSearchCriteria criteria, Pageable pageable);
+    Flux<MovieSummary> searchMovieSummariesByText(MovieSearchCriteria criteria, int limit);
+    Flux<Movie> findTitleIndexSources();
+    Flux<Movie> findFacetIndexSources();
+    Flux<Movie> findLeaderboardSources();
+    Flux<MovieSummary> findTopRatedSummaries(int minRatingCount, int limit);
+    Flux<MovieSummary> findLatestReleasedSummaries(LocalDate today, int limit);
+    Flux<MovieSummary> findUpcomingSummaries(LocalDate today, int limit);
+    Flux<String> findUnreleasedMovieIdsDueBy(LocalDate date);
+    Mono<LocalDate> findNextReleaseDateAfter(LocalDate date);
+    Mono<Long> markReleased(Collection<String> movieIds);
+    Mono<Movie> applyTmdbRefresh(String movieId, Movie fresh);
+    Mono<Long> countMovies(MovieSearchCriteria criteria);
+    Flux<MovieSummary> findSummariesByIds(Collection<String> movieIds);
+    Flux<MovieSummary> findSummariesByIds(Collection<String> movieIds, MovieSearchCriteria criteria);
+    Mono<Movie> applyRatingChange(String movieId, Integer removedRating, Integer addedRating);
+    Mono<Movie> seedRatingTotals(RatingTotals totals);
+    Mono<Boolean> existsMovieWithoutRatingTotals();
+    Mono<Movie> updateAverageRating(String movieId, Double averageRating);
+    Mono<RatingTotals> findRatingTotals(String movieId);
+    Flux<RatingTotals> findAllRatingTotals();
+    Mono<Integer> bulkUpdateRatingTotals(List<RatingTotals> stored, Map<String, RatingTotals> expected);
+}
@@ -0,0 +1,321 @@
+package com.moviehub.review.repository;
+
+import com.moviehub.review.dto.MovieSearchCriteria;
+import com.moviehub.review.model.Movie;
+import com.moviehub.review.model.MovieSummary;
+import com.moviehub.review.model.RatingTotals;
+import org.springframework.beans.factory.annotation.Autowired;
+import com.mongodb.client.result.UpdateResult;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.ReactiveBulkOperations;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.TextCriteria;
+import org.springframework.data.mongodb.core.query.TextQuery;
+import org.springframework.data.mongodb.core.query.Update;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+public class MovieRepositoryCustomImpl implements MovieRepositoryCustom {
+
+    private static final String[] SUMMARY_FIELDS =
+            {"title", "genre", "releaseYear", "released", "averageRating", "posterUrl"};
+
+    @Autowired
+    private ReactiveMongoTemplate mongoTemplate;
+
+    @Override
+    public Flux<MovieSummary> searchMovieSummaries(MovieSearchCriteria criteria, Pageable pageable) {
+        Query query = buildQuery(criteria).with(pageable);
+        query.fields().include(SUMMARY_FIELDS);
+        return mongoTemplate.find(query, MovieSummary.class, mongoTemplate.getCollectionName(Movie.class));
+    }
+
+    @Override
+    public Flux<MovieSummary> searchMovieSummariesByText(MovieSearchCriteria criteria, int limit) {
+        TextQuery query = TextQuery.queryText(TextCriteria.forDefaultLanguage().matching(criteria.getSearch().trim()))
+                .sortByScore();
+        List<Criteria> filters = buildFilters(criteria, false);
+        if (!filters.isEmpty()) {
+            query.addCriteria(new Criteria().andOperator(filters));
+        }
+        query.fields().include(SUMMARY_FIELDS);
+        query.limit(limit);
+        return mongoTemplate.find(query, MovieSummary.class, mongoTemplate.getCollectionName(Movie.class));
+    }
+
+    @Override
+    public Flux<Movie> findTitleIndexSources() {
+        Query query = new Query();
+        query.fields().include("title", "originalTitle", "releaseYear", "posterUrl", "ratingCount");
+        return mongoTemplate.find(query, Movie.class);
+    }
+
+    @Override
+    public Flux<Movie> findFacetIndexSources() {
+        Query query = new Query();
+        query.fields().include("title", "genre", "releaseYear", "language", "released", "ottPlatforms.platformName");
+        return mongoTemplate.find(query, Movie.class);
+    }
+
+    @Override
+    public Flux<Movie> findLeaderboardSources() {
+        Query query = Query.query(Criteria.where("ratingCount").gt(0));
+        query.fields().include(SUMMARY_FIELDS).include("ratingSum", "ratingCount");
+        return mongoTemplate.find(query, Movie.class);
+    }
+
+    @Override
+    public Flux<MovieSummary> findTopRatedSummaries(int minRatingCount, int limit) {
+        Query query = Query.query(Criteria.where("ratingCount").gte(minRatingCount))
+                .with(Sort.by(Sort.Order.desc("averageRating"), Sort.Order.desc("ratingCount")))
+                .limit(limit);
+        query.fields().include(SUMMARY_FIELDS);
+        return mongoTemplate.find(query, MovieSummary.class, mongoTemplate.getCollectionName(Movie.class));
+    }
+
+    @Override
+    public Flux<MovieSummary> findLatestReleasedSummaries(LocalDate today, int limit) {
+        Query query = Query.query(Criteria.where("released").is(true).and("releaseDate").lte(today))
+                .with(Sort.by(Sort.Direction.DESC, "releaseDate"))
+                .limit(limit);
+        query.fields().include(SUMMARY_FIELDS);
+        return mongoTemplate.find(query, MovieSummary.class, mongoTemplate.getCollectionName(Movie.class));
+    }
+
+    @Override
+    public Flux<MovieSummary> findUpcomingSummaries(LocalDate today, int limit) {
+        Query query = Query.query(Criteria.where("released").ne(true).and("releaseDate").gt(today))
+                .with(Sort.by(Sort.Direction.ASC, "releaseDate"))
+                .limit(limit);
+        query.fields().include(SUMMARY_FIELDS);
+        return mongoTemplate.find(query, MovieSummary.class, mongoTemplate.getCollectionName(Movie.class));
+    }
+
+    @Override
+    public Flux<String> findUnreleasedMovieIdsDueBy(LocalDate date) {
+        Query query = Query.query(Criteria.where("released").ne(true).and("releaseDate").lte(date));
+        query.fields().include("_id");
+        return mongoTemplate.find(query, Movie.class).map(Movie::getMovieId);
+    }
+
+    @Override
+    public Mono<LocalDate> findNextReleaseDateAfter(LocalDate date) {
+        Query query = Query.query(Criteria.where("released").ne(true).and("releaseDate").gt(date))
+                .with(Sort.by(Sort.Direction.ASC, "releaseDate"))
+                .limit(1);
+        query.fields().include("releaseDate");
+        return mongoTemplate.findOne(query, Movie.class).mapNotNull(Movie::getReleaseDate);
+    }
+
+    @Override
+    public Mono<Long> markReleased(Collection<String> movieIds) {
+        Query query = Query.query(Criteria.where("_id").in(movieIds).and("released").ne(true));
+        return mongoTemplate.updateMulti(query, Update.update("released", true), Movie.class)
+                .map(UpdateResult::getModifiedCount);
+    }
+
+    // Sets only the fields TMDb owns, so rating counters incremented while the fetch was in flight survive
+    @Override
+    public Mono<Movie> applyTmdbRefresh(String movieId, Movie fresh) {
+        Update update = new Update()
+                .set("overview", fresh.getOverview())
+                .set("imdbId", fresh.getImdbId())
+                .set("runtime", fresh.getRuntime())
+                .set("posterUrl", fresh.getPosterUrl())
+                .set("backdropUrl", fresh.getBackdropUrl())
+                .set("cast", fresh.getCast())
+                .set("crew", fresh.getCrew())
+                .set("ottPlatforms", fresh.getOttPlatforms());
+        if (fresh.getReleaseDate() != null) {
+            update.set("releaseDate", fresh.getReleaseDate())
+                    .set("releaseYear", fresh.getReleaseYear())
+                    .set("released", fresh.getReleased());
+        }
+
+        return mongoTemplate.findAndModify(Query.query(Criteria.where("_id").is(movieId)), update,
+                FindAndModifyOptions.options().returnNew(true), Movie.class);
+    }
+
+    @Override
+    public Mono<Long> countMovies(MovieSearchCriteria criteria) {
+        return mongoTemplate.count(buildQuery(criteria), Movie.class);
+    }
+
+    @Override
+    public Flux<MovieSummary> findSummariesByIds(Collection<String> movieIds) {
+        Query query = Query.query(Criteria.where("_id").in(movieIds));
+        query.fields().include(SUMMARY_FIELDS);
+        return mongoTemplate.find(query, MovieSummary.class, mongoTemplate.getCollectionName(Movie.class));
+    }
+
+    @Override
+    public Flux<MovieSummary> findSummariesByIds(Collection<String> movieIds, MovieSearchCriteria criteria) {
+        List<Criteria> filters = buildFilters(criteria, false);
+        filters.add(Criteria.where("_id").in(movieIds));
+        Query query = Query.query(new Criteria().andOperator(filters));
+        query.fields().include(SUMMARY_FIELDS);
+        return mongoTemplate.find(query, MovieSummary.class, mongoTemplate.getCollectionName(Movie.class));
+    }
+
+    @Override
+    public Mono<Movie> applyRatingChange(String movieId, Integer removedRating, Integer addedRating) {
+        int sumDelta = valueOrZero(addedRating) - valueOrZero(removedRating);
+        int countDelta = (addedRating != null ? 1 : 0) - (removedRating != null ? 1 : 0);
+
+        // Movies that predate the counters have nothing to increment from; they are seeded instead
+        Query byId = Query.query(Criteria.where("_id").is(movieId).and("ratingCount").ne(null));
+        byId.fields().include("ratingSum", "ratingCount", "ratingHistogram");
+        Update increments = new Update().inc("ratingSum", sumDelta).inc("ratingCount", countDelta);
+        if (removedRating != null) {
+            increments.inc("ratingHistogram." + removedRating, -1);
+        }
+        if (addedRating != null) {
+            increments.inc("ratingHistogram." + addedRating, 1);
+        }
+
+        return mongoTemplate.findAndModify(byId, increments, FindAndModifyOptions.options().returnNew(true), Movie.class)
+                .flatMap(this::refreshAverageRating);
+    }
+
+    @Override
+    public Mono<Movie> seedRatingTotals(RatingTotals totals) {
+        Query unseeded = Query.query(Criteria.where("_id").is(totals.getMovieId()).and("ratingCount").is(null));
+        unseeded.fields().include("ratingSum", "ratingCount", "ratingHistogram");
+        Update update = new Update()
+                .set("ratingSum", totals.getRatingSum())
+                .set("ratingCount", totals.getRatingCount())
+                .set("ratingHistogram", totals.getRatingHistogram());
+
+        return mongoTemplate.findAndModify(unseeded, update, FindAndModifyOptions.options().returnNew(true), Movie.class)
+                .flatMap(this::refreshAverageRating);
+    }
+
+    @Override
+    public Mono<Boolean> existsMovieWithoutRatingTotals() {
+        return mongoTemplate.exists(Query.query(Criteria.where("ratingCount").is(null)), Movie.class);
+    }
+
+    @Override
+    public Mono<Movie> updateAverageRating(String movieId, Double averageRating) {
+        return mongoTemplate.findAndModify(Query.query(Criteria.where("_id").is(movieId)),
+                Update.update("averageRating", averageRating),
+                FindAndModifyOptions.options().returnNew(true), Movie.class);
+    }
+
+    @Override
+    public Mono<RatingTotals> findRatingTotals(String movieId) {
+        Query query = Query.query(Criteria.where("_id").is(movieId));
+        query.fields().include("ratingSum", "ratingCount", "averageRating", "ratingHistogram");
+        return mongoTemplate.findOne(query, RatingTotals.class, mongoTemplate.getCollectionName(Movie.class));
+    }
+
+    @Override
+    public Flux<RatingTotals> findAllRatingTotals() {
+        Query query = new Query();
+        query.fields().include("ratingSum", "ratingCount", "averageRating", "ratingHistogram");
+        return mongoTemplate.find(query, RatingTotals.class, mongoTemplate.getCollectionName(Movie.class));
+    }
+
+    @Override
+    public Mono<Integer> bulkUpdateRatingTotals(List<RatingTotals> stored, Map<String, RatingTotals> expected) {
+        if (stored.isEmpty()) {
+            return Mono.just(0);
+        }
+
+        // Each correction only applies if the totals are still the ones in the snapshot taken before the
+        // aggregation; a movie whose counters moved since then is left for the next run.
+        ReactiveBulkOperations bulkOps = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, Movie.class);
+        stored.forEach(current -> {
+            RatingTotals total = expected.getOrDefault(current.getMovieId(),
+                    new RatingTotals(current.getMovieId(), 0, 0, 0.0, new HashMap<>()));
+            bulkOps.updateOne(
+                    Query.query(Criteria.where("_id").is(current.getMovieId())
+                            .and("ratingSum").is(current.getRatingSum())
+                            .and("ratingCount").is(current.getRatingCount())),
+                    new Update()
+                            .set("ratingSum", total.getRatingSum())
+                            .set("ratingCount", total.getRatingCount())
+                            .set("averageRating", total.getAverageRating())
+                            .set("ratingHistogram", total.getRatingHistogram()));
+        });
+
+        return bulkOps.execute().map(result -> result.getMatchedCount());
+    }
+
+    // Only writes the average if no other increment landed in between; the writer of
+    // that later increment then derives the average from the newer totals instead.
+    private Mono<Movie> refreshAverageRating(Movie movie) {
+        int sum = valueOrZero(movie.getRatingSum());
+        int count = valueOrZero(movie.getRatingCount());
+        double average = count > 0 ? (double) sum / count : 0.0;
+        movie.setAverageRating(average);
+
+        Query unchanged = Query.query(Criteria.where("_id").is(movie.getMovieId())
+                .and("ratingSum").is(sum)
+                .and("ratingCount").is(count));
+
+        return mongoTemplate.updateFirst(unchanged, Update.update("averageRating", average), Movie.class)
+                .thenReturn(movie);
+    }
+
+    private int valueOrZero(Integer value) {
+        return value == null ? 0 : value;
+    }
+
+    private Query buildQuery(MovieSearchCriteria criteria) {
+        List<Criteria> filters = buildFilters(criteria, true);
+
+        Query query = new Query();
+        if (!filters.isEmpty()) {
+            query.addCriteria(new Criteria().andOperator(filters));
+        }
+        return query;
+    }
+
+    private List<Criteria> buildFilters(MovieSearchCriteria criteria, boolean includeSearch) {
+        List<Criteria> filters = new ArrayList<>();
+
+        if (criteria != null) {
+            String search = includeSearch ? trimString(criteria.getSearch()) : null;
+            if (search != null) {
+                Criteria titleMatch = Criteria.where("title").regex(Pattern.quote(search), "i");
+                Collection<String> fuzzyMatchIds = criteria.getFuzzyMatchIds();
+                filters.add(fuzzyMatchIds == null || fuzzyMatchIds.isEmpty() ? titleMatch
+                        : new Criteria().orOperator(titleMatch, Criteria.where("_id").in(fuzzyMatchIds)));
+            }
+
+            String genre = trimString(criteria.getGenre());
+            if (genre != null) {
+                filters.add(Criteria.where("genre").regex(Pattern.quote(genre), "i"));
+            }
+
+            if (criteria.getYear() != null) {
+                filters.add(Criteria.where("releaseYear").is(criteria.getYear()));
+            }
+
+            if (Boolean.TRUE.equals(criteria.getReleased())) {
+                filters.add(Criteria.where("released").is(true));
+            } else if (Boolean.FALSE.equals(criteria.getReleased())) {
+                filters.add(Criteria.where("released").ne(true));
+            }
+        }
+        return filters;
+    }
+
+    private String trimString(String str) {
+        return (str == null || str.trim().isEmpty()) ? null : str.trim();
+    }
+}
@@ -1,11 +1,37 @@
 package com.moviehub.review.repository;
 
 import com.moviehub.review.model.Review;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.mongodb.repository.Query;
 import org.springframework.data.mongodb.repository.ReactiveMongoRepository;
 import org.springframework.stereotype.Repository;
 import reactor.core.publisher.Flux;
 
+import java.time.Instant;
+
 @Repository
-public interface ReviewRepository extends ReactiveMongoRepository<Review, String> {
+public interface ReviewRepository extends ReactiveMongoRepository<Review, String>, ReviewRepositoryCustom {
     Flux<Review> findByMovieId(String movieId);
+    Flux<Review> findAllBy(Pageable pageable);
+
+    @Query(value = "{}", sort = "{ 'createdAt': -1, '_id': -1 }")
+    Flux<Review> findFirstPageByCreatedAt(Pageable pageable);
+
+    // Reviews without createdAt sort after every dated one, so they always follow a dated cursor
+    @Query(value = "{ '$or': [ { 'createdAt': { '$lt': ?0 } }, { 'createdAt': ?0, '_id': { '$lt': ?1 } }, { 'createdAt': null } ] }",
+            sort = "{ 'createdAt': -1, '_id': -1 }")
+    Flux<Review> findPageBeforeCreatedAt(Instant createdAt, Object reviewId, Pageable pageable);
+
+    @Query(value = "{ 'createdAt': null, '_id': { '$lt': ?0 } }", sort = "{ 'createdAt': -1, '_id': -1 }")
+    Flux<Review> findPageWithoutCreatedAtBefore(Object reviewId, Pageable pageable);
+
+    @Query(value = "{ 'movieId': ?0 }", sort = "{ 'createdAt': -1, '_id': -1 }")
+    Flux<Review> findFirstPageByMovieId(String movieId, Pageable pageable);
+
+    @Query(value = "{ 'movieId': ?0, '$or': [ { 'createdAt': { '$lt': ?1 } }, { 'createdAt': ?1, '_id': { '$lt': ?2 } }, { 'createdAt': null } ] }",
+            sort = "{ 'createdAt': -1, '_id': -1 }")
+    Flux<Review> findPageByMovieIdBeforeCreatedAt(String movieId, Instant createdAt, Object reviewId, Pageable pageable);
+
+    @Query(value = "{ 'movieId': ?0, 'createdAt': null, '_id': { '$lt': ?1 } }", sort = "{ 'createdAt': -1, '_id': -1 }")
+    Flux<Review> findPageByMovieIdWithoutCreatedAtBefore(String movieId, Object reviewId, Pageable pageable);
 }
@@ -0,0 +1,16 @@
+package com.moviehub.review.repository;
+
+import com.moviehub.review.model.RatingTotals;
+import com.moviehub.review.model.Review;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Instant;
+
+public interface ReviewRepositoryCustom {
+    Flux<RatingTotals> aggregateRatingTotals();
+    Mono<RatingTotals> aggregateRatingTotals(String movieId);
+    Mono<Review> findAndRemoveById(String reviewId);
+    Mono<Long> backfillCreatedAt();
+    Mono<Review> findAndUpdateById(String reviewId, String movieId, Integer rating, String comment, Instant createdAt);
+}
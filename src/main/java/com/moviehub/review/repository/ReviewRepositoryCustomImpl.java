@@ -0,0 +1,91 @@
+package com.moviehub.review.repository;
+
+import com.mongodb.client.result.UpdateResult;
+import com.moviehub.review.model.RatingTotals;
+import com.moviehub.review.model.Review;
+import org.bson.Document;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.aggregation.AggregationOptions;
+import org.springframework.data.mongodb.core.aggregation.AggregationUpdate;
+import org.springframework.data.mongodb.core.aggregation.ConvertOperators;
+import org.springframework.data.mongodb.core.aggregation.TypedAggregation;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+public class ReviewRepositoryCustomImpl implements ReviewRepositoryCustom {
+
+    @Autowired
+    private ReactiveMongoTemplate mongoTemplate;
+
+    @Override
+    public Flux<RatingTotals> aggregateRatingTotals() {
+        return aggregateRatingTotals(Criteria.where("rating").ne(null));
+    }
+
+    @Override
+    public Mono<RatingTotals> aggregateRatingTotals(String movieId) {
+        return aggregateRatingTotals(Criteria.where("movieId").is(movieId).and("rating").ne(null)).next();
+    }
+
+    @Override
+    public Mono<Review> findAndRemoveById(String reviewId) {
+        return mongoTemplate.findAndRemove(Query.query(Criteria.where("_id").is(reviewId)), Review.class);
+    }
+
+    // Reviews written before createdAt existed take it from their ObjectId, so they sort and page like the rest
+    @Override
+    public Mono<Long> backfillCreatedAt() {
+        Query missing = Query.query(Criteria.where("createdAt").is(null).and("_id").type(7));
+        AggregationUpdate fromObjectId = AggregationUpdate.update()
+                .set("createdAt").toValue(ConvertOperators.valueOf("_id").convertToDate());
+        return mongoTemplate.updateMulti(missing, fromObjectId, Review.class)
+                .map(UpdateResult::getModifiedCount);
+    }
+
+    // Returns the review as it was before this update, so rating deltas come from what was actually replaced
+    @Override
+    public Mono<Review> findAndUpdateById(String reviewId, String movieId, Integer rating, String comment, Instant createdAt) {
+        Update update = new Update()
+                .set("movieId", movieId)
+                .set("rating", rating)
+                .set("comment", comment)
+                .set("createdAt", createdAt);
+        return mongoTemplate.findAndModify(Query.query(Criteria.where("_id").is(reviewId)), update,
+                FindAndModifyOptions.options().returnNew(false), Review.class);
+    }
+
+    private Flux<RatingTotals> aggregateRatingTotals(Criteria match) {
+        // One row per (movie, star value); folded into per-movie totals and histogram below
+        TypedAggregation<Review> aggregation = Aggregation.newAggregation(Review.class,
+                        Aggregation.match(match),
+                        Aggregation.group("movieId", "rating").count().as("count"))
+                .withOptions(AggregationOptions.builder().allowDiskUse(true).build());
+
+        return mongoTemplate.aggregate(aggregation, Document.class)
+                .collect(LinkedHashMap<String, RatingTotals>::new, (totalsByMovie, row) -> {
+                    Document key = row.get("_id", Document.class);
+                    String movieId = key.getString("movieId");
+                    int rating = key.getInteger("rating");
+                    int count = row.getInteger("count");
+
+                    RatingTotals totals = totalsByMovie.computeIfAbsent(movieId,
+                            id -> new RatingTotals(id, 0, 0, 0.0, new HashMap<>()));
+                    totals.setRatingSum(totals.getRatingSum() + rating * count);
+                    totals.setRatingCount(totals.getRatingCount() + count);
+                    totals.getRatingHistogram().put(String.valueOf(rating), count);
+                })
+                .flatMapIterable(Map::values)
+                .doOnNext(totals -> totals.setAverageRating((double) totals.getRatingSum() / totals.getRatingCount()));
+    }
+}
@@ -0,0 +1,11 @@
+package com.moviehub.review.repository;
+
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+
+public interface SyncLeaseRepositoryCustom {
+    Mono<Boolean> tryAcquire(String name, String owner, Duration ttl);
+    Mono<Boolean> renew(String name, String owner, Duration ttl);
+    Mono<Void> release(String name, String owner);
+}
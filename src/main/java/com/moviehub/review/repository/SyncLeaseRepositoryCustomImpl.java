@@ -0,0 +1,58 @@
+package com.moviehub.review.repository;
+
+import com.moviehub.review.model.SyncLease;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.time.Instant;
+
+public class SyncLeaseRepositoryCustomImpl implements SyncLeaseRepositoryCustom {
+
+    @Autowired
+    private ReactiveMongoTemplate mongoTemplate;
+
+    // Matches only a lease that is expired or already ours; when another owner holds a live lease the
+    // upsert tries to insert a second document with the same _id and fails with a duplicate key.
+    @Override
+    public Mono<Boolean> tryAcquire(String name, String owner, Duration ttl) {
+        Instant now = Instant.now();
+        Query claimable = Query.query(Criteria.where("_id").is(name)
+                .orOperator(Criteria.where("expiresAt").lte(now), Criteria.where("owner").is(owner)));
+        Update update = new Update()
+                .set("owner", owner)
+                .set("acquiredAt", now)
+                .set("heartbeatAt", now)
+                .set("expiresAt", now.plus(ttl));
+
+        return mongoTemplate.findAndModify(claimable, update,
+                        FindAndModifyOptions.options().upsert(true).returnNew(true), SyncLease.class)
+                .map(lease -> owner.equals(lease.getOwner()))
+                .defaultIfEmpty(false)
+                .onErrorResume(DuplicateKeyException.class, error -> Mono.just(false));
+    }
+
+    @Override
+    public Mono<Boolean> renew(String name, String owner, Duration ttl) {
+        Instant now = Instant.now();
+        Query owned = Query.query(Criteria.where("_id").is(name).and("owner").is(owner).and("expiresAt").gt(now));
+        Update update = new Update()
+                .set("heartbeatAt", now)
+                .set("expiresAt", now.plus(ttl));
+
+        return mongoTemplate.updateFirst(owned, update, SyncLease.class)
+                .map(result -> result.getMatchedCount() > 0);
+    }
+
+    @Override
+    public Mono<Void> release(String name, String owner) {
+        Query owned = Query.query(Criteria.where("_id").is(name).and("owner").is(owner));
+        return mongoTemplate.updateFirst(owned, Update.update("expiresAt", Instant.now()), SyncLease.class).then();
+    }
+}
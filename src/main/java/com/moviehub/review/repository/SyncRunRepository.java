@@ -0,0 +1,12 @@
+package com.moviehub.review.repository;
+
+import com.moviehub.review.model.SyncRun;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.mongodb.repository.ReactiveMongoRepository;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+
+@Repository
+public interface SyncRunRepository extends ReactiveMongoRepository<SyncRun, String> {
+    Flux<SyncRun> findAllByOrderByStartedAtDesc(Pageable pageable);
+}
@@ -0,0 +1,9 @@
+package com.moviehub.review.repository;
+
+import com.moviehub.review.model.SyncState;
+import org.springframework.data.mongodb.repository.ReactiveMongoRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface SyncStateRepository extends ReactiveMongoRepository<SyncState, String>, SyncStateRepositoryCustom {
+}
@@ -0,0 +1,12 @@
+package com.moviehub.review.repository;
+
+import com.moviehub.review.model.SyncCheckpoint;
+import reactor.core.publisher.Mono;
+
+import java.time.Instant;
+
+public interface SyncStateRepositoryCustom {
+    Mono<Void> saveCheckpoint(String id, SyncCheckpoint checkpoint);
+    Mono<Void> markChangesSynced(String id, Instant watermark, Instant syncedAt);
+    Mono<Void> markFullSynced(String id, Instant syncedAt);
+}
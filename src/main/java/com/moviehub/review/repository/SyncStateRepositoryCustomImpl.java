@@ -0,0 +1,44 @@
+package com.moviehub.review.repository;
+
+import com.moviehub.review.model.SyncCheckpoint;
+import com.moviehub.review.model.SyncState;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import reactor.core.publisher.Mono;
+
+import java.time.Instant;
+
+// Field-level upserts, so an incremental run moving the watermark never overwrites a full walk's checkpoint
+public class SyncStateRepositoryCustomImpl implements SyncStateRepositoryCustom {
+
+    @Autowired
+    private ReactiveMongoTemplate mongoTemplate;
+
+    @Override
+    public Mono<Void> saveCheckpoint(String id, SyncCheckpoint checkpoint) {
+        return mongoTemplate.upsert(byId(id), Update.update("checkpoint", checkpoint), SyncState.class).then();
+    }
+
+    @Override
+    public Mono<Void> markChangesSynced(String id, Instant watermark, Instant syncedAt) {
+        Update update = new Update()
+                .set("changesWatermark", watermark)
+                .set("lastIncrementalSyncAt", syncedAt);
+        return mongoTemplate.upsert(byId(id), update, SyncState.class).then();
+    }
+
+    @Override
+    public Mono<Void> markFullSynced(String id, Instant syncedAt) {
+        Update update = new Update()
+                .set("lastFullSyncAt", syncedAt)
+                .unset("checkpoint");
+        return mongoTemplate.upsert(byId(id), update, SyncState.class).then();
+    }
+
+    private Query byId(String id) {
+        return Query.query(Criteria.where("_id").is(id));
+    }
+}
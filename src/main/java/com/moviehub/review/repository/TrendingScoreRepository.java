@@ -0,0 +1,9 @@
+package com.moviehub.review.repository;
+
+import com.moviehub.review.model.TrendingScore;
+import org.springframework.data.mongodb.repository.ReactiveMongoRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface TrendingScoreRepository extends ReactiveMongoRepository<TrendingScore, String> {
+}
@@ -0,0 +1,110 @@
+package com.moviehub.review.scheduler;
+
+import com.moviehub.review.event.MovieChangedEvent;
+import com.moviehub.review.event.MoviesReleasedEvent;
+import com.moviehub.review.model.Movie;
+import com.moviehub.review.repository.MovieRepository;
+import com.moviehub.review.service.MovieService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.concurrent.ScheduledFuture;
+
+/**
+ * Flips {@code released} when a movie's release date arrives. Only the nearest upcoming release date is
+ * kept, with a single timer armed for midnight of that day; when it fires, every movie due by then is
+ * released with one updateMulti and the timer is re-armed from the next date in the releaseDate index.
+ */
+@Component
+public class MovieReleaseScheduler {
+
+    private static final Logger logger = LoggerFactory.getLogger(MovieReleaseScheduler.class);
+
+    @Autowired
+    private MovieRepository movieRepository;
+
+    @Autowired
+    private MovieService movieService;
+
+    @Autowired
+    private TaskScheduler taskScheduler;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    private LocalDate nextReleaseDate;
+    private ScheduledFuture<?> nextRelease;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        releaseDueMovies()
+                .subscribe(released -> logger.info("Startup release catch-up released {} movies", released),
+                        error -> logger.error("Startup release catch-up failed: {}", error.getMessage(), error));
+    }
+
+    @EventListener
+    public void onMovieChanged(MovieChangedEvent event) {
+        Movie movie = event.getMovie();
+        if (movie == null || Boolean.TRUE.equals(movie.getReleased()) || movie.getReleaseDate() == null) {
+            return;
+        }
+        synchronized (this) {
+            if (nextReleaseDate == null || movie.getReleaseDate().isBefore(nextReleaseDate)) {
+                arm(movie.getReleaseDate());
+            }
+        }
+    }
+
+    public Mono<Long> releaseDueMovies() {
+        LocalDate today = LocalDate.now();
+        logger.info("Releasing movies with release date on or before {}", today);
+
+        return movieRepository.findUnreleasedMovieIdsDueBy(today)
+                .collectList()
+                .flatMap(movieIds -> movieIds.isEmpty()
+                        ? Mono.just(0L)
+                        : movieRepository.markReleased(movieIds)
+                                .doOnNext(released -> {
+                                    movieService.evictCachedMovies(movieIds);
+                                    eventPublisher.publishEvent(new MoviesReleasedEvent(movieIds));
+                                }))
+                .flatMap(released -> movieRepository.findNextReleaseDateAfter(today)
+                        .doOnNext(this::armIfEarlier)
+                        .then(Mono.just(released)))
+                .doOnError(error -> logger.error("Failed to release due movies: {}", error.getMessage(), error));
+    }
+
+    private synchronized void armIfEarlier(LocalDate releaseDate) {
+        if (nextReleaseDate == null || !nextReleaseDate.isAfter(LocalDate.now()) || releaseDate.isBefore(nextReleaseDate)) {
+            arm(releaseDate);
+        }
+    }
+
+    private synchronized void arm(LocalDate releaseDate) {
+        if (nextRelease != null) {
+            nextRelease.cancel(false);
+        }
+        nextReleaseDate = releaseDate;
+        nextRelease = taskScheduler.schedule(this::fire, releaseDate.atStartOfDay(ZoneId.systemDefault()).toInstant());
+        logger.info("Next movie release boundary armed for {}", releaseDate);
+    }
+
+    private void fire() {
+        synchronized (this) {
+            nextReleaseDate = null;
+            nextRelease = null;
+        }
+        releaseDueMovies()
+                .subscribe(released -> logger.info("Release boundary released {} movies", released),
+                        error -> logger.error("Release boundary run failed: {}", error.getMessage(), error));
+    }
+}
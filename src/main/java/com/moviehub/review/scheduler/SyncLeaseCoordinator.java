@@ -0,0 +1,102 @@
+package com.moviehub.review.scheduler;
+
+import com.moviehub.review.repository.SyncLeaseRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.net.InetAddress;
+import java.time.Duration;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Runs a job on at most one thread of one node at a time. A local guard turns away overlapping runs in this
+ * JVM before touching Mongo; across nodes the job needs a lease in {@code sync_leases}, renewed by a
+ * heartbeat while the job runs. If a renewal finds the lease gone, the job is cancelled. If a node dies,
+ * its lease expires after the TTL and another node takes over.
+ */
+@Component
+public class SyncLeaseCoordinator {
+
+    private static final Logger logger = LoggerFactory.getLogger(SyncLeaseCoordinator.class);
+
+    @Autowired
+    private SyncLeaseRepository syncLeaseRepository;
+
+    @Value("${sync.lease.ttl:2m}")
+    private Duration leaseTtl;
+
+    @Value("${sync.lease.heartbeat-interval:30s}")
+    private Duration heartbeatInterval;
+
+    private final String nodeId = resolveNodeId();
+    private final Set<String> runningLocally = ConcurrentHashMap.newKeySet();
+
+    /**
+     * @return true when the job ran to completion, false when it was skipped because it is already running
+     */
+    public Mono<Boolean> runExclusively(String leaseName, Supplier<Mono<Void>> job) {
+        return Mono.defer(() -> {
+            if (!runningLocally.add(leaseName)) {
+                logger.info("Skipping {}: already running on this node", leaseName);
+                return Mono.just(false);
+            }
+
+            return syncLeaseRepository.tryAcquire(leaseName, nodeId, leaseTtl)
+                    .flatMap(acquired -> {
+                        if (!acquired) {
+                            logger.info("Skipping {}: lease held by another node", leaseName);
+                            return Mono.just(false);
+                        }
+
+                        logger.info("Acquired lease {} as {}", leaseName, nodeId);
+                        return Mono.firstWithSignal(job.get(), leaseLost(leaseName))
+                                .then(syncLeaseRepository.release(leaseName, nodeId))
+                                .thenReturn(true)
+                                .onErrorResume(error -> syncLeaseRepository.release(leaseName, nodeId)
+                                        .onErrorResume(releaseError -> Mono.empty())
+                                        .then(Mono.error(error)));
+                    })
+                    .doFinally(signal -> runningLocally.remove(leaseName));
+        });
+    }
+
+    public String getNodeId() {
+        return nodeId;
+    }
+
+    // A failed renewal is tolerated only while the lease is certain to outlive the next heartbeat; past
+    // that point another node may take it, so the job is treated as having lost it.
+    private Mono<Void> leaseLost(String leaseName) {
+        AtomicLong renewedAt = new AtomicLong(System.nanoTime());
+        return Flux.interval(heartbeatInterval)
+                .concatMap(tick -> syncLeaseRepository.renew(leaseName, nodeId, leaseTtl)
+                        .doOnNext(renewed -> renewedAt.set(System.nanoTime()))
+                        .onErrorResume(error -> {
+                            long expiresIn = leaseTtl.toNanos() - (System.nanoTime() - renewedAt.get());
+                            logger.warn("Heartbeat for lease {} failed: {}", leaseName, error.getMessage());
+                            return Mono.just(expiresIn > heartbeatInterval.toNanos());
+                        }))
+                .filter(renewed -> !renewed)
+                .next()
+                .then(Mono.error(new IllegalStateException("Lost lease " + leaseName + " while running")));
+    }
+
+    private static String resolveNodeId() {
+        String host;
+        try {
+            host = InetAddress.getLocalHost().getHostName();
+        } catch (Exception e) {
+            host = "unknown";
+        }
+        return host + "-" + UUID.randomUUID().toString().substring(0, 8);
+    }
+}
@@ -0,0 +1,129 @@
+package com.moviehub.review.search;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Burkhard-Keller tree over string keys under Levenshtein distance. A radius-r lookup only descends
+ * into children whose edge distance is within r of the query's distance to the parent, so small radii
+ * touch a small fraction of the keys. Removal just detaches the value; empty keys are dropped when the
+ * owning index rebuilds. Not thread-safe.
+ */
+public class BkTree {
+
+    private Node root;
+    private int size;
+
+    public int size() {
+        return size;
+    }
+
+    public void add(String key, String value) {
+        if (root == null) {
+            root = new Node(key);
+            size++;
+        }
+
+        Node node = root;
+        while (true) {
+            int distance = levenshtein(key, node.key);
+            if (distance == 0) {
+                node.values.add(value);
+                return;
+            }
+            Node child = node.children.get(distance);
+            if (child == null) {
+                child = new Node(key);
+                child.values.add(value);
+                node.children.put(distance, child);
+                size++;
+                return;
+            }
+            node = child;
+        }
+    }
+
+    public void remove(String key, String value) {
+        Node node = root;
+        while (node != null) {
+            int distance = levenshtein(key, node.key);
+            if (distance == 0) {
+                node.values.remove(value);
+                return;
+            }
+            node = node.children.get(distance);
+        }
+    }
+
+    public List<Match> search(String query, int maxDistance) {
+        List<Match> matches = new ArrayList<>();
+        if (root == null) {
+            return matches;
+        }
+
+        Deque<Node> pending = new ArrayDeque<>();
+        pending.push(root);
+        while (!pending.isEmpty()) {
+            Node node = pending.pop();
+            int distance = levenshtein(query, node.key);
+            if (distance <= maxDistance && !node.values.isEmpty()) {
+                matches.add(new Match(node.key, distance, node.values));
+            }
+            for (Map.Entry<Integer, Node> child : node.children.entrySet()) {
+                if (Math.abs(child.getKey() - distance) <= maxDistance) {
+                    pending.push(child.getValue());
+                }
+            }
+        }
+        return matches;
+    }
+
+    static int levenshtein(String a, String b) {
+        if (a.equals(b)) {
+            return 0;
+        }
+        int[] previous = new int[b.length() + 1];
+        int[] current = new int[b.length() + 1];
+        for (int j = 0; j <= b.length(); j++) {
+            previous[j] = j;
+        }
+        for (int i = 1; i <= a.length(); i++) {
+            current[0] = i;
+            for (int j = 1; j <= b.length(); j++) {
+                int substitution = previous[j - 1] + (a.charAt(i - 1) == b.charAt(j - 1) ? 0 : 1);
+                current[j] = Math.min(substitution, Math.min(previous[j], current[j - 1]) + 1);
+            }
+            int[] swap = previous;
+            previous = current;
+            current = swap;
+        }
+        return previous[b.length()];
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static final class Match {
+        private final String key;
+        private final int distance;
+        private final Set<String> values;
+    }
+
+    private static final class Node {
+        private final String key;
+        private final Set<String> values = new HashSet<>(2);
+        private final Map<Integer, Node> children = new HashMap<>();
+
+        private Node(String key) {
+            this.key = key;
+        }
+    }
+}
@@ -0,0 +1,204 @@
+package com.moviehub.review.search;
+
+import com.moviehub.review.event.MovieChangedEvent;
+import com.moviehub.review.model.Movie;
+import com.moviehub.review.repository.MovieRepository;
+import com.moviehub.review.util.RebuildBuffer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+/**
+ * Typo- and romanization-tolerant title matching. Every title word (and the whole title run together,
+ * so "Baahu Bali" meets "Baahubali") is reduced to a phonetic key and stored in a BK-tree; a query matches
+ * a movie when each of its words is within a small edit distance of one of the movie's keys.
+ */
+@Component
+public class FuzzyTitleIndex {
+
+    private static final Logger logger = LoggerFactory.getLogger(FuzzyTitleIndex.class);
+
+    @Autowired
+    private MovieRepository movieRepository;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private Index index = new Index();
+    private final RebuildBuffer<Index> rebuildBuffer = new RebuildBuffer<>();
+
+    public List<String> findMatchingMovieIds(String query, int limit) {
+        List<String> queryWords = new ArrayList<>(new LinkedHashSet<>(TitleTransliteration.phoneticWords(query)));
+        if (queryWords.isEmpty() || limit <= 0) {
+            return new ArrayList<>();
+        }
+        String joinedQuery = String.join("", queryWords);
+
+        lock.readLock().lock();
+        try {
+            BkTree tree = index.tree;
+            Map<String, int[]> wordDistances = new HashMap<>();
+            for (int w = 0; w < queryWords.size(); w++) {
+                String word = queryWords.get(w);
+                for (BkTree.Match match : tree.search(word, maxDistance(word))) {
+                    for (String movieId : match.getValues()) {
+                        int[] distances = wordDistances.computeIfAbsent(movieId, id -> unmatched(queryWords.size()));
+                        distances[w] = Math.min(distances[w], match.getDistance());
+                    }
+                }
+            }
+
+            Map<String, Integer> scores = new HashMap<>();
+            wordDistances.forEach((movieId, distances) -> {
+                int total = 0;
+                for (int distance : distances) {
+                    if (distance == Integer.MAX_VALUE) {
+                        return;
+                    }
+                    total += distance;
+                }
+                scores.put(movieId, total);
+            });
+            if (queryWords.size() > 1) {
+                for (BkTree.Match match : tree.search(joinedQuery, maxDistance(joinedQuery))) {
+                    for (String movieId : match.getValues()) {
+                        scores.merge(movieId, match.getDistance(), Math::min);
+                    }
+                }
+            }
+
+            Map<String, IndexedTitle> current = index.titles;
+            return scores.entrySet().stream()
+                    .filter(score -> current.containsKey(score.getKey()))
+                    .sorted(Map.Entry.<String, Integer>comparingByValue()
+                            .thenComparing(score -> current.get(score.getKey()).sortTitle))
+                    .limit(limit)
+                    .map(Map.Entry::getKey)
+                    .collect(Collectors.toList());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${movies.fuzzy.rebuild-interval-ms:3600000}",
+            initialDelayString = "${movies.fuzzy.rebuild-interval-ms:3600000}")
+    public void rebuild() {
+        lock.writeLock().lock();
+        try {
+            if (!rebuildBuffer.start()) {
+                logger.info("Fuzzy movie title index rebuild already in progress, skipping");
+                return;
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+        logger.info("Rebuilding fuzzy movie title index");
+
+        movieRepository.findTitleIndexSources()
+                .collectList()
+                .subscribe(movies -> {
+                    Index rebuilt = new Index();
+                    movies.forEach(movie -> index(rebuilt, movie));
+
+                    int replayed;
+                    lock.writeLock().lock();
+                    try {
+                        replayed = rebuildBuffer.replayOnto(rebuilt);
+                        index = rebuilt;
+                    } finally {
+                        lock.writeLock().unlock();
+                    }
+                    logger.info("Fuzzy movie title index rebuilt with {} movies and {} keys, {} changes replayed",
+                            rebuilt.titles.size(), rebuilt.tree.size(), replayed);
+                }, error -> {
+                    lock.writeLock().lock();
+                    try {
+                        rebuildBuffer.abandon();
+                    } finally {
+                        lock.writeLock().unlock();
+                    }
+                    logger.error("Failed to rebuild fuzzy movie title index: {}", error.getMessage(), error);
+                });
+    }
+
+    @EventListener
+    public void onMovieChanged(MovieChangedEvent event) {
+        Consumer<Index> change = target -> {
+            IndexedTitle previous = target.titles.remove(event.getMovieId());
+            if (previous != null) {
+                previous.keys.forEach(key -> target.tree.remove(key, event.getMovieId()));
+            }
+            if (!event.isDeleted()) {
+                index(target, event.getMovie());
+            }
+        };
+
+        lock.writeLock().lock();
+        try {
+            change.accept(index);
+            rebuildBuffer.record(change);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void index(Index target, Movie movie) {
+        Set<String> keys = new LinkedHashSet<>();
+        for (String title : Arrays.asList(movie.getTitle(), movie.getOriginalTitle())) {
+            List<String> words = TitleTransliteration.phoneticWords(title);
+            keys.addAll(words);
+            if (words.size() > 1) {
+                keys.add(String.join("", words));
+            }
+        }
+        if (keys.isEmpty()) {
+            return;
+        }
+
+        keys.forEach(key -> target.tree.add(key, movie.getMovieId()));
+        target.titles.put(movie.getMovieId(), new IndexedTitle(keys, TitleNormalizer.normalize(movie.getTitle())));
+    }
+
+    // Short keys get no slack: one edit turns most 3-letter words into other real words.
+    private int maxDistance(String key) {
+        if (key.length() <= 3) {
+            return 0;
+        }
+        return key.length() <= 6 ? 1 : 2;
+    }
+
+    private int[] unmatched(int size) {
+        int[] distances = new int[size];
+        Arrays.fill(distances, Integer.MAX_VALUE);
+        return distances;
+    }
+
+    private static final class Index {
+        private final BkTree tree = new BkTree();
+        private final Map<String, IndexedTitle> titles = new HashMap<>();
+    }
+
+    private static final class IndexedTitle {
+        private final Set<String> keys;
+        private final String sortTitle;
+
+        private IndexedTitle(Set<String> keys, String sortTitle) {
+            this.keys = keys;
+            this.sortTitle = sortTitle;
+        }
+    }
+}
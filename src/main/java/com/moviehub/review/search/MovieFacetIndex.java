@@ -0,0 +1,319 @@
+package com.moviehub.review.search;
+
+import com.moviehub.review.event.MovieChangedEvent;
+import com.moviehub.review.event.MoviesReleasedEvent;
+import com.moviehub.review.model.Movie;
+import com.moviehub.review.model.OttPlatform;
+import com.moviehub.review.repository.MovieRepository;
+import com.moviehub.review.util.RebuildBuffer;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.roaringbitmap.PeekableIntIterator;
+import org.roaringbitmap.RoaringBitmap;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+
+/**
+ * Compressed bitmap postings per facet value over the movies collection. Each movie gets a dense
+ * ordinal (title order as of the last rebuild, later additions appended), filters are OR within a
+ * facet and AND across facets, and facet counts are computed against the other facets' filters so
+ * every value shows how many results selecting it would give.
+ */
+@Component
+public class MovieFacetIndex {
+
+    private static final Logger logger = LoggerFactory.getLogger(MovieFacetIndex.class);
+
+    public static final String GENRE = "genre";
+    public static final String YEAR = "year";
+    public static final String LANGUAGE = "language";
+    public static final String RELEASED = "released";
+    public static final String OTT = "ott";
+    public static final List<String> FACETS = List.of(GENRE, YEAR, LANGUAGE, RELEASED, OTT);
+
+    @Autowired
+    private MovieRepository movieRepository;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private Postings postings = new Postings();
+    private final RebuildBuffer<Postings> rebuildBuffer = new RebuildBuffer<>();
+
+    public FacetResult search(Map<String, ? extends Collection<String>> filters, long offset, int limit) {
+        lock.readLock().lock();
+        try {
+            Map<String, RoaringBitmap> facetMatches = new HashMap<>();
+            for (String facet : FACETS) {
+                Collection<String> values = filters.get(facet);
+                if (values != null && !values.isEmpty()) {
+                    facetMatches.put(facet, postings.union(facet, values));
+                }
+            }
+
+            RoaringBitmap matches = intersect(postings.all, facetMatches, null);
+
+            Map<String, Map<String, Integer>> counts = new LinkedHashMap<>();
+            for (String facet : FACETS) {
+                RoaringBitmap base = intersect(postings.all, facetMatches, facet);
+                Map<String, Integer> valueCounts = new TreeMap<>();
+                postings.facets.get(facet).forEach((value, bitmap) -> {
+                    int count = RoaringBitmap.andCardinality(bitmap, base);
+                    if (count > 0) {
+                        valueCounts.put(value, count);
+                    }
+                });
+                counts.put(facet, sortByCount(valueCounts));
+            }
+
+            List<String> movieIds = new ArrayList<>(Math.max(0, limit));
+            long total = matches.getLongCardinality();
+            if (offset >= 0 && offset < total) {
+                int start = matches.select((int) offset);
+                PeekableIntIterator ordinals = matches.getIntIterator();
+                ordinals.advanceIfNeeded(start);
+                while (ordinals.hasNext() && movieIds.size() < limit) {
+                    movieIds.add(postings.idByOrdinal.get(ordinals.next()));
+                }
+            }
+
+            return new FacetResult(total, movieIds, counts);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${movies.facets.rebuild-interval-ms:3600000}",
+            initialDelayString = "${movies.facets.rebuild-interval-ms:3600000}")
+    public void rebuild() {
+        lock.writeLock().lock();
+        try {
+            if (!rebuildBuffer.start()) {
+                logger.info("Movie facet index rebuild already in progress, skipping");
+                return;
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+        logger.info("Rebuilding movie facet index");
+
+        movieRepository.findFacetIndexSources()
+                .collectList()
+                .subscribe(movies -> {
+                    Postings rebuilt = new Postings();
+                    movies.sort(Comparator.comparing(movie -> TitleNormalizer.normalize(movie.getTitle())));
+                    movies.forEach(rebuilt::add);
+
+                    int replayed;
+                    lock.writeLock().lock();
+                    try {
+                        replayed = rebuildBuffer.replayOnto(rebuilt);
+                        rebuilt.optimize();
+                        postings = rebuilt;
+                    } finally {
+                        lock.writeLock().unlock();
+                    }
+                    logger.info("Movie facet index rebuilt with {} movies, {} changes replayed",
+                            rebuilt.all.getCardinality(), replayed);
+                }, error -> {
+                    abandonRebuild();
+                    logger.error("Failed to rebuild movie facet index: {}", error.getMessage(), error);
+                });
+    }
+
+    @EventListener
+    public void onMovieChanged(MovieChangedEvent event) {
+        apply(target -> {
+            target.remove(event.getMovieId());
+            if (!event.isDeleted()) {
+                target.add(event.getMovie());
+            }
+        });
+    }
+
+    @EventListener
+    public void onMoviesReleased(MoviesReleasedEvent event) {
+        apply(target -> event.getMovieIds().forEach(target::markReleased));
+    }
+
+    private void apply(Consumer<Postings> change) {
+        lock.writeLock().lock();
+        try {
+            change.accept(postings);
+            rebuildBuffer.record(change);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void abandonRebuild() {
+        lock.writeLock().lock();
+        try {
+            rebuildBuffer.abandon();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private RoaringBitmap intersect(RoaringBitmap all, Map<String, RoaringBitmap> facetMatches, String excludedFacet) {
+        RoaringBitmap result = all;
+        for (Map.Entry<String, RoaringBitmap> match : facetMatches.entrySet()) {
+            if (!match.getKey().equals(excludedFacet)) {
+                result = RoaringBitmap.and(result, match.getValue());
+            }
+        }
+        return result;
+    }
+
+    private Map<String, Integer> sortByCount(Map<String, Integer> valueCounts) {
+        Map<String, Integer> sorted = new LinkedHashMap<>();
+        valueCounts.entrySet().stream()
+                .sorted(Map.Entry.<String, Integer>comparingByValue().reversed())
+                .forEach(entry -> sorted.put(entry.getKey(), entry.getValue()));
+        return sorted;
+    }
+
+    private static Map<String, Set<String>> facetValues(Movie movie) {
+        Map<String, Set<String>> values = new HashMap<>();
+        values.put(GENRE, trimmed(movie.getGenre()));
+        values.put(YEAR, movie.getReleaseYear() != null ? Set.of(movie.getReleaseYear().toString()) : Set.of());
+        values.put(LANGUAGE, trimmed(movie.getLanguage() != null ? List.of(movie.getLanguage()) : null));
+        values.put(RELEASED, Set.of(String.valueOf(Boolean.TRUE.equals(movie.getReleased()))));
+
+        List<String> platforms = new ArrayList<>();
+        if (movie.getOttPlatforms() != null) {
+            for (OttPlatform platform : movie.getOttPlatforms()) {
+                if (platform != null) {
+                    platforms.add(platform.getPlatformName());
+                }
+            }
+        }
+        values.put(OTT, trimmed(platforms));
+        return values;
+    }
+
+    private static Set<String> trimmed(List<String> raw) {
+        Set<String> values = new LinkedHashSet<>();
+        if (raw != null) {
+            for (String value : raw) {
+                if (value != null && !value.isBlank()) {
+                    values.add(value.trim());
+                }
+            }
+        }
+        return values;
+    }
+
+    private static final class Postings {
+        private final RoaringBitmap all = new RoaringBitmap();
+        private final Map<String, Map<String, RoaringBitmap>> facets = new HashMap<>();
+        private final Map<String, Integer> ordinalById = new HashMap<>();
+        private final List<String> idByOrdinal = new ArrayList<>();
+        private final Map<Integer, Map<String, Set<String>>> valuesByOrdinal = new HashMap<>();
+
+        private Postings() {
+            FACETS.forEach(facet -> facets.put(facet, new HashMap<>()));
+        }
+
+        private void add(Movie movie) {
+            int ordinal = ordinalById.computeIfAbsent(movie.getMovieId(), id -> {
+                idByOrdinal.add(id);
+                return idByOrdinal.size() - 1;
+            });
+
+            Map<String, Set<String>> values = facetValues(movie);
+            values.forEach((facet, facetValues) -> facetValues.forEach(value ->
+                    facets.get(facet).computeIfAbsent(value, v -> new RoaringBitmap()).add(ordinal)));
+            valuesByOrdinal.put(ordinal, values);
+            all.add(ordinal);
+        }
+
+        // The ordinal stays reserved for the movie id, so a re-added movie keeps its position.
+        private void remove(String movieId) {
+            Integer ordinal = ordinalById.get(movieId);
+            if (ordinal == null) {
+                return;
+            }
+
+            Map<String, Set<String>> values = valuesByOrdinal.remove(ordinal);
+            if (values != null) {
+                values.forEach((facet, facetValues) -> facetValues.forEach(value -> {
+                    Map<String, RoaringBitmap> postingsByValue = facets.get(facet);
+                    RoaringBitmap bitmap = postingsByValue.get(value);
+                    if (bitmap != null) {
+                        bitmap.remove(ordinal);
+                        if (bitmap.isEmpty()) {
+                            postingsByValue.remove(value);
+                        }
+                    }
+                }));
+            }
+            all.remove(ordinal);
+        }
+
+        private void markReleased(String movieId) {
+            Integer ordinal = ordinalById.get(movieId);
+            Map<String, Set<String>> values = ordinal != null ? valuesByOrdinal.get(ordinal) : null;
+            if (values == null) {
+                return;
+            }
+
+            Map<String, RoaringBitmap> postingsByValue = facets.get(RELEASED);
+            for (String value : values.get(RELEASED)) {
+                RoaringBitmap bitmap = postingsByValue.get(value);
+                if (bitmap != null) {
+                    bitmap.remove(ordinal);
+                    if (bitmap.isEmpty()) {
+                        postingsByValue.remove(value);
+                    }
+                }
+            }
+            String released = String.valueOf(true);
+            postingsByValue.computeIfAbsent(released, v -> new RoaringBitmap()).add(ordinal);
+            values.put(RELEASED, Set.of(released));
+        }
+
+        private RoaringBitmap union(String facet, Collection<String> values) {
+            RoaringBitmap union = new RoaringBitmap();
+            Map<String, RoaringBitmap> postingsByValue = facets.get(facet);
+            for (String value : values) {
+                RoaringBitmap bitmap = postingsByValue.get(value.trim());
+                if (bitmap != null) {
+                    union.or(bitmap);
+                }
+            }
+            return union;
+        }
+
+        private void optimize() {
+            all.runOptimize();
+            facets.values().forEach(byValue -> byValue.values().forEach(RoaringBitmap::runOptimize));
+        }
+    }
+
+    @Getter
+    @AllArgsConstructor(access = AccessLevel.PRIVATE)
+    public static final class FacetResult {
+        private final long total;
+        private final List<String> movieIds;
+        private final Map<String, Map<String, Integer>> counts;
+    }
+}
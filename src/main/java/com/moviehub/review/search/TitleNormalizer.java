@@ -0,0 +1,41 @@
+package com.moviehub.review.search;
+
+import java.text.Normalizer;
+import java.util.LinkedHashSet;
+import java.util.Locale;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+public class TitleNormalizer {
+
+    // Only Latin combining accents are folded; Telugu vowel signs are also marks and must be kept.
+    private static final Pattern LATIN_ACCENTS = Pattern.compile("[\\u0300-\\u036f]");
+    private static final Pattern SEPARATORS = Pattern.compile("[^\\p{L}\\p{N}\\p{M}]+");
+
+    public static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        String decomposed = LATIN_ACCENTS.matcher(Normalizer.normalize(text, Normalizer.Form.NFKD)).replaceAll("");
+        return SEPARATORS.matcher(decomposed.toLowerCase(Locale.ROOT)).replaceAll(" ").trim();
+    }
+
+    /**
+     * Index keys for a title: the full normalized title plus every suffix starting at a word,
+     * so "Baahubali The Beginning" is also found by typing "beginning".
+     */
+    public static Set<String> prefixKeys(String... titles) {
+        Set<String> keys = new LinkedHashSet<>();
+        for (String title : titles) {
+            String normalized = normalize(title);
+            if (normalized.isEmpty()) {
+                continue;
+            }
+            keys.add(normalized);
+            for (int i = normalized.indexOf(' '); i >= 0; i = normalized.indexOf(' ', i + 1)) {
+                keys.add(normalized.substring(i + 1));
+            }
+        }
+        return keys;
+    }
+}
@@ -0,0 +1,257 @@
+package com.moviehub.review.search;
+
+import com.moviehub.review.dto.MovieSuggestionDto;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Character trie over normalized title keys. Every node caches the best {@code topK} movies of its
+ * subtree, so a lookup costs one walk down the prefix and never scans the matching titles.
+ * Keys are indexed to at most {@value #MAX_KEY_LENGTH} characters and node collections are only
+ * allocated once used, since every word suffix of every title gets its own path.
+ * Not thread-safe; {@link TitleSuggestIndex} guards access.
+ */
+public class TitlePrefixTrie {
+
+    private static final Comparator<Entry> BY_POPULARITY = Comparator
+            .comparingInt((Entry entry) -> entry.popularity).reversed()
+            .thenComparing(entry -> entry.sortTitle)
+            .thenComparing(entry -> entry.suggestion.getMovieId());
+
+    static final int MAX_KEY_LENGTH = 24;
+
+    private final int topK;
+    private final Node root = new Node();
+    private final Map<String, Entry> entries = new HashMap<>();
+    private int nodeCount = 1;
+
+    public TitlePrefixTrie(int topK) {
+        this.topK = topK;
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    int nodeCount() {
+        return nodeCount;
+    }
+
+    public void put(MovieSuggestionDto suggestion, int popularity) {
+        remove(suggestion.getMovieId());
+
+        Set<String> keys = new LinkedHashSet<>();
+        for (String key : TitleNormalizer.prefixKeys(suggestion.getTitle(), suggestion.getOriginalTitle())) {
+            keys.add(indexKey(key));
+        }
+        if (keys.isEmpty()) {
+            return;
+        }
+
+        Entry entry = new Entry(suggestion, popularity, keys);
+        entries.put(suggestion.getMovieId(), entry);
+
+        for (String key : keys) {
+            Node node = root;
+            offer(node, entry);
+            for (int i = 0; i < key.length(); i++) {
+                node = node.child(key.charAt(i));
+                offer(node, entry);
+            }
+            if (node.movieIds == null) {
+                node.movieIds = new HashSet<>(2);
+            }
+            node.movieIds.add(suggestion.getMovieId());
+        }
+    }
+
+    public void updatePopularity(String movieId, int popularity) {
+        Entry entry = entries.get(movieId);
+        if (entry != null && entry.popularity != popularity) {
+            put(entry.suggestion, popularity);
+        }
+    }
+
+    public void remove(String movieId) {
+        Entry entry = entries.remove(movieId);
+        if (entry == null) {
+            return;
+        }
+
+        Map<String, List<Node>> paths = new LinkedHashMap<>();
+        Map<Node, Integer> depths = new IdentityHashMap<>();
+        for (String key : entry.keys) {
+            List<Node> path = pathTo(key);
+            if (path == null) {
+                continue;
+            }
+            Node terminal = path.get(path.size() - 1);
+            if (terminal.movieIds != null && terminal.movieIds.remove(movieId) && terminal.movieIds.isEmpty()) {
+                terminal.movieIds = null;
+            }
+            for (int depth = 0; depth < path.size(); depth++) {
+                depths.put(path.get(depth), depth);
+            }
+            paths.put(key, path);
+        }
+
+        // Children before parents, so each parent rebuilds from already-corrected child lists.
+        List<Node> affected = new ArrayList<>(depths.keySet());
+        affected.sort(Comparator.comparingInt((Node node) -> depths.get(node)).reversed());
+        for (Node node : affected) {
+            if (node.top != null && node.top.contains(entry)) {
+                recompute(node);
+            }
+        }
+
+        for (Map.Entry<String, List<Node>> keyPath : paths.entrySet()) {
+            String key = keyPath.getKey();
+            List<Node> path = keyPath.getValue();
+            for (int depth = path.size() - 1; depth > 0; depth--) {
+                Node node = path.get(depth);
+                if (!node.isEmpty()) {
+                    break;
+                }
+                // Another key of the same title may already have pruned this shared stretch of the path
+                Node parent = path.get(depth - 1);
+                if (parent.children == null) {
+                    continue;
+                }
+                if (parent.children.remove(key.charAt(depth - 1)) != null) {
+                    nodeCount--;
+                }
+                if (parent.children.isEmpty()) {
+                    parent.children = null;
+                }
+            }
+        }
+    }
+
+    public List<MovieSuggestionDto> suggest(String prefix, int limit) {
+        String normalized = TitleNormalizer.normalize(prefix);
+        if (normalized.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        List<Node> path = pathTo(indexKey(normalized));
+        if (path == null || path.get(path.size() - 1).top == null) {
+            return Collections.emptyList();
+        }
+
+        List<Entry> top = path.get(path.size() - 1).top;
+        List<MovieSuggestionDto> suggestions = new ArrayList<>(Math.min(limit, top.size()));
+        for (int i = 0; i < top.size() && i < limit; i++) {
+            suggestions.add(top.get(i).suggestion);
+        }
+        return suggestions;
+    }
+
+    private List<Node> pathTo(String key) {
+        List<Node> path = new ArrayList<>(key.length() + 1);
+        Node node = root;
+        path.add(node);
+        for (int i = 0; i < key.length(); i++) {
+            node = node.children != null ? node.children.get(key.charAt(i)) : null;
+            if (node == null) {
+                return null;
+            }
+            path.add(node);
+        }
+        return path;
+    }
+
+    private static String indexKey(String key) {
+        return key.length() > MAX_KEY_LENGTH ? key.substring(0, MAX_KEY_LENGTH) : key;
+    }
+
+    private void offer(Node node, Entry entry) {
+        if (node.top == null) {
+            node.top = new ArrayList<>(Math.min(topK, 2));
+        }
+        List<Entry> top = node.top;
+        if (top.contains(entry)) {
+            return;
+        }
+        if (top.size() >= topK && BY_POPULARITY.compare(entry, top.get(top.size() - 1)) >= 0) {
+            return;
+        }
+
+        int position = Collections.binarySearch(top, entry, BY_POPULARITY);
+        top.add(position < 0 ? -position - 1 : position, entry);
+        if (top.size() > topK) {
+            top.remove(top.size() - 1);
+        }
+    }
+
+    private void recompute(Node node) {
+        Map<String, Entry> candidates = new LinkedHashMap<>();
+        if (node.movieIds != null) {
+            for (String movieId : node.movieIds) {
+                Entry entry = entries.get(movieId);
+                if (entry != null) {
+                    candidates.put(movieId, entry);
+                }
+            }
+        }
+        if (node.children != null) {
+            for (Node child : node.children.values()) {
+                if (child.top == null) {
+                    continue;
+                }
+                for (Entry entry : child.top) {
+                    if (entries.get(entry.suggestion.getMovieId()) == entry) {
+                        candidates.putIfAbsent(entry.suggestion.getMovieId(), entry);
+                    }
+                }
+            }
+        }
+
+        List<Entry> top = new ArrayList<>(candidates.values());
+        top.sort(BY_POPULARITY);
+        node.top = top.size() > topK ? new ArrayList<>(top.subList(0, topK)) : top;
+    }
+
+    private final class Node {
+        private Map<Character, Node> children;
+        private Set<String> movieIds;
+        private List<Entry> top;
+
+        private Node child(char c) {
+            if (children == null) {
+                children = new HashMap<>(2);
+            }
+            return children.computeIfAbsent(c, key -> {
+                nodeCount++;
+                return new Node();
+            });
+        }
+
+        private boolean isEmpty() {
+            return (movieIds == null || movieIds.isEmpty()) && (children == null || children.isEmpty());
+        }
+    }
+
+    private static final class Entry {
+        private final MovieSuggestionDto suggestion;
+        private final int popularity;
+        private final String sortTitle;
+        private final Set<String> keys;
+
+        private Entry(MovieSuggestionDto suggestion, int popularity, Set<String> keys) {
+            this.suggestion = suggestion;
+            this.popularity = popularity;
+            this.sortTitle = TitleNormalizer.normalize(suggestion.getTitle());
+            this.keys = keys;
+        }
+    }
+}
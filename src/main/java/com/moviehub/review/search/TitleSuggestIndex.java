@@ -0,0 +1,115 @@
+package com.moviehub.review.search;
+
+import com.moviehub.review.dto.MovieSuggestionDto;
+import com.moviehub.review.event.MovieChangedEvent;
+import com.moviehub.review.event.MovieRatingChangedEvent;
+import com.moviehub.review.mapper.MovieMapper;
+import com.moviehub.review.model.Movie;
+import com.moviehub.review.repository.MovieRepository;
+import com.moviehub.review.util.RebuildBuffer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+
+@Component
+public class TitleSuggestIndex {
+
+    private static final Logger logger = LoggerFactory.getLogger(TitleSuggestIndex.class);
+
+    public static final int MAX_SUGGESTIONS = 10;
+
+    @Autowired
+    private MovieRepository movieRepository;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private TitlePrefixTrie trie = new TitlePrefixTrie(MAX_SUGGESTIONS);
+    private final RebuildBuffer<TitlePrefixTrie> rebuildBuffer = new RebuildBuffer<>();
+
+    public List<MovieSuggestionDto> suggest(String prefix, int limit) {
+        lock.readLock().lock();
+        try {
+            return trie.suggest(prefix, Math.max(1, Math.min(limit, MAX_SUGGESTIONS)));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${movies.suggest.rebuild-interval-ms:3600000}",
+            initialDelayString = "${movies.suggest.rebuild-interval-ms:3600000}")
+    public void rebuild() {
+        lock.writeLock().lock();
+        try {
+            if (!rebuildBuffer.start()) {
+                logger.info("Movie title suggest index rebuild already in progress, skipping");
+                return;
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+        logger.info("Rebuilding movie title suggest index");
+
+        movieRepository.findTitleIndexSources()
+                .collectList()
+                .subscribe(movies -> {
+                    TitlePrefixTrie rebuilt = new TitlePrefixTrie(MAX_SUGGESTIONS);
+                    movies.forEach(movie -> rebuilt.put(MovieMapper.toSuggestionDto(movie), popularity(movie)));
+
+                    int replayed;
+                    lock.writeLock().lock();
+                    try {
+                        replayed = rebuildBuffer.replayOnto(rebuilt);
+                        trie = rebuilt;
+                    } finally {
+                        lock.writeLock().unlock();
+                    }
+                    logger.info("Movie title suggest index rebuilt with {} movies, {} changes replayed", rebuilt.size(), replayed);
+                }, error -> {
+                    lock.writeLock().lock();
+                    try {
+                        rebuildBuffer.abandon();
+                    } finally {
+                        lock.writeLock().unlock();
+                    }
+                    logger.error("Failed to rebuild movie title suggest index: {}", error.getMessage(), error);
+                });
+    }
+
+    @EventListener
+    public void onMovieChanged(MovieChangedEvent event) {
+        if (event.isDeleted()) {
+            apply(target -> target.remove(event.getMovieId()));
+        } else {
+            apply(target -> target.put(MovieMapper.toSuggestionDto(event.getMovie()), popularity(event.getMovie())));
+        }
+    }
+
+    @EventListener
+    public void onMovieRatingChanged(MovieRatingChangedEvent event) {
+        int popularity = event.getRatingCount() != null ? event.getRatingCount() : 0;
+
+        apply(target -> target.updatePopularity(event.getMovieId(), popularity));
+    }
+
+    private void apply(Consumer<TitlePrefixTrie> change) {
+        lock.writeLock().lock();
+        try {
+            change.accept(trie);
+            rebuildBuffer.record(change);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private int popularity(Movie movie) {
+        return movie.getRatingCount() != null ? movie.getRatingCount() : 0;
+    }
+}
@@ -0,0 +1,137 @@
+package com.moviehub.review.search;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Reduces a title to phonetic keys so that the many romanizations of a Telugu title
+ * ("Baahubali", "Bahubali", "Bahubaali", "బాహుబలి") land on the same or nearby keys.
+ */
+public class TitleTransliteration {
+
+    private static final char VIRAMA = '్';
+    private static final char ANUSVARA = 'ం';
+
+    private static final Map<Character, String> TELUGU_CONSONANTS = new HashMap<>();
+    private static final Map<Character, String> TELUGU_VOWELS = new HashMap<>();
+    private static final Map<Character, String> TELUGU_VOWEL_SIGNS = new HashMap<>();
+    private static final Map<Character, String> TELUGU_OTHER = new HashMap<>();
+
+    private static final String[][] LATIN_FOLDS = {
+            {"kh", "k"}, {"gh", "g"}, {"chh", "c"}, {"ch", "c"}, {"jh", "j"}, {"th", "t"}, {"dh", "d"},
+            {"ph", "p"}, {"f", "p"}, {"bh", "b"}, {"sh", "s"}, {"w", "v"}, {"z", "j"}, {"q", "k"},
+            {"x", "ks"}, {"ck", "k"}, {"aa", "a"}, {"ee", "i"}, {"ii", "i"}, {"oo", "u"}, {"uu", "u"}
+    };
+
+    static {
+        String[] consonants = {"k", "kh", "g", "gh", "ng", "c", "ch", "j", "jh", "ny", "t", "th", "d", "dh", "n",
+                "t", "th", "d", "dh", "n", null, "p", "ph", "b", "bh", "m", "y", "r", "r", "l", "l", "l", "v",
+                "sh", "sh", "s", "h"};
+        for (int i = 0; i < consonants.length; i++) {
+            if (consonants[i] != null) {
+                TELUGU_CONSONANTS.put((char) ('క' + i), consonants[i]);
+            }
+        }
+
+        String[] vowels = {"a", "aa", "i", "ii", "u", "uu", "ru", "lu", null, "e", "ee", "ai", null, "o", "oo", "au"};
+        for (int i = 0; i < vowels.length; i++) {
+            if (vowels[i] != null) {
+                TELUGU_VOWELS.put((char) ('అ' + i), vowels[i]);
+            }
+        }
+
+        String[] vowelSigns = {"aa", "i", "ii", "u", "uu", "ru", "ruu", null, "e", "ee", "ai", null, "o", "oo", "au"};
+        for (int i = 0; i < vowelSigns.length; i++) {
+            if (vowelSigns[i] != null) {
+                TELUGU_VOWEL_SIGNS.put((char) ('ా' + i), vowelSigns[i]);
+            }
+        }
+
+        TELUGU_OTHER.put('ఁ', "n");
+        TELUGU_OTHER.put('ః', "h");
+        for (int i = 0; i <= 9; i++) {
+            TELUGU_OTHER.put((char) ('౦' + i), String.valueOf(i));
+        }
+    }
+
+    /**
+     * Phonetic keys of the individual words of a title, in order.
+     */
+    public static List<String> phoneticWords(String title) {
+        List<String> words = new ArrayList<>();
+        String normalized = TitleNormalizer.normalize(title);
+        if (normalized.isEmpty()) {
+            return words;
+        }
+        for (String word : normalized.split(" ")) {
+            String key = phoneticKey(word);
+            if (!key.isEmpty()) {
+                words.add(key);
+            }
+        }
+        return words;
+    }
+
+    public static String phoneticKey(String word) {
+        String folded = toLatin(word);
+        for (String[] fold : LATIN_FOLDS) {
+            folded = folded.replace(fold[0], fold[1]);
+        }
+
+        StringBuilder key = new StringBuilder(folded.length());
+        for (int i = 0; i < folded.length(); i++) {
+            char c = folded.charAt(i);
+            if (!Character.isLetterOrDigit(c)) {
+                continue;
+            }
+            // Doubled letters are a spelling choice, not a different sound ("Rangasthalam" / "Rangasthallam")
+            if (key.length() > 0 && key.charAt(key.length() - 1) == c) {
+                continue;
+            }
+            key.append(c);
+        }
+        return key.toString();
+    }
+
+    private static String toLatin(String word) {
+        StringBuilder latin = new StringBuilder(word.length() * 2);
+        for (int i = 0; i < word.length(); i++) {
+            char c = word.charAt(i);
+            String consonant = TELUGU_CONSONANTS.get(c);
+            if (consonant != null) {
+                latin.append(consonant);
+                char next = i + 1 < word.length() ? word.charAt(i + 1) : 0;
+                String sign = TELUGU_VOWEL_SIGNS.get(next);
+                if (sign != null) {
+                    latin.append(sign);
+                    i++;
+                } else if (next == VIRAMA) {
+                    i++;
+                } else {
+                    latin.append('a');
+                }
+                continue;
+            }
+
+            if (c == ANUSVARA) {
+                // Sounds as "m" before labials and at the end of a word, "n" elsewhere ("రంగ" is "ranga")
+                char next = i + 1 < word.length() ? word.charAt(i + 1) : 0;
+                latin.append(next == 0 || (next >= 'ప' && next <= 'మ') ? 'm' : 'n');
+                continue;
+            }
+
+            String mapped = TELUGU_VOWELS.get(c);
+            if (mapped == null) {
+                mapped = TELUGU_OTHER.get(c);
+            }
+            if (mapped != null) {
+                latin.append(mapped);
+            } else if (c < 'ఀ' || c > '౿') {
+                latin.append(c);
+            }
+        }
+        return latin.toString();
+    }
+}
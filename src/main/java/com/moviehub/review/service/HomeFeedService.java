@@ -0,0 +1,9 @@
+package com.moviehub.review.service;
+
+import com.moviehub.review.dto.HomeFeedDto;
+import reactor.core.publisher.Mono;
+
+public interface HomeFeedService {
+    HomeFeedDto getHomeFeed();
+    Mono<HomeFeedDto> refreshHomeFeed();
+}
@@ -1,18 +1,49 @@
 package com.moviehub.review.service;
 
+import com.moviehub.review.dto.CacheStatsDto;
+import com.moviehub.review.dto.CursorPageDto;
+import com.moviehub.review.dto.MovieFacetSearchDto;
 import com.moviehub.review.dto.MovieRequestDto;
 import com.moviehub.review.dto.MovieResponseDto;
+import com.moviehub.review.dto.MovieSearchCriteria;
+import com.moviehub.review.dto.MovieSuggestionDto;
+import com.moviehub.review.dto.MovieSummaryDto;
+import com.moviehub.review.dto.RatingDistributionDto;
+import com.moviehub.review.dto.SyncRunDto;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
 import reactor.netty.ChannelPipelineConfigurer;
 
 public interface MovieService {
     Mono<MovieResponseDto> createMovie(MovieRequestDto movieRequestDto);
     Mono<MovieResponseDto> getMovieById(String movieId);
+    Mono<MovieResponseDto> findMovieById(String movieId);
+    CacheStatsDto getMovieCacheStats();
+    void evictCachedMovies(Collection<String> movieIds);
     Flux<MovieResponseDto> getALlMovies();
+    Mono<CursorPageDto<MovieResponseDto>> getMoviesPage(String cursor, int limit);
+    Mono<Page<MovieSummaryDto>> searchMovies(MovieSearchCriteria criteria, Pageable pageable);
+    Flux<MovieSummaryDto> findMovieSummaries(MovieSearchCriteria criteria);
+    Mono<MovieFacetSearchDto> searchMovieFacets(Map<String, List<String>> filters, int page, int size);
+    Flux<MovieSuggestionDto> suggestMovies(String query, int limit);
+    Flux<MovieSummaryDto> searchMoviesByText(MovieSearchCriteria criteria, int limit);
+    Flux<MovieResponseDto> searchMovieDetailsByText(MovieSearchCriteria criteria, int limit);
+    Flux<MovieSummaryDto> getTopRatedMovies(String genre, Integer year, int limit);
+    Flux<MovieSummaryDto> getTrendingMovies(int limit);
+    Mono<Map<String, String>> getMovieTitles(Collection<String> movieIds);
     Mono<MovieResponseDto> updateMovie(String movieId, MovieRequestDto movieRequestDto);
     Mono<Void> deleteMovie(String id);
     Mono<MovieResponseDto> updateMovieRating(String movieId, Double newRating);
-    Flux<MovieResponseDto> findMoviesByGenre(String genre);
+    Mono<Void> applyRatingChange(String movieId, Integer removedRating, Integer addedRating);
+    Mono<RatingDistributionDto> getRatingDistribution(String movieId);
+    Flux<MovieSummaryDto> findMoviesByGenre(String genre);
     Mono<MovieResponseDto> createMovieFromTmdbSearch(String query, Integer year);
+    Mono<Boolean> syncTmdbMovies(boolean fullWalk);
+    Flux<SyncRunDto> getTmdbSyncRuns(int limit);
 }
\ No newline at end of file
@@ -1,7 +1,11 @@
 package com.moviehub.review.service;
 
+import com.moviehub.review.dto.CursorPageDto;
+import com.moviehub.review.dto.RatingReconciliationReportDto;
 import com.moviehub.review.dto.ReviewRequestDto;
 import com.moviehub.review.dto.ReviewResponseDto;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
@@ -11,6 +15,10 @@ public interface ReviewService {
     Mono<Void> deleteReview(String reviewId);
     Mono<ReviewResponseDto> getReviewById(String reviewId);
     Flux<ReviewResponseDto> getAllReviews();
+    Mono<CursorPageDto<ReviewResponseDto>> getReviewsPage(String cursor, int limit);
+    Mono<Page<ReviewResponseDto>> findReviews(Pageable pageable);
     Flux<ReviewResponseDto> getReviewsByMovieId(String movieId);
+    Mono<CursorPageDto<ReviewResponseDto>> getReviewsPageByMovieId(String movieId, String before, int limit);
     Mono<Double> calculateAverageRatingForMovie(String movieId);
+    Mono<RatingReconciliationReportDto> reconcileMovieRatings();
 }
\ No newline at end of file
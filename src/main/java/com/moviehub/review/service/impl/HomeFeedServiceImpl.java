@@ -0,0 +1,154 @@
+package com.moviehub.review.service.impl;
+
+import com.moviehub.review.dto.HomeFeedDto;
+import com.moviehub.review.dto.MovieSummaryDto;
+import com.moviehub.review.event.MovieChangedEvent;
+import com.moviehub.review.event.MovieRatingChangedEvent;
+import com.moviehub.review.event.MoviesReleasedEvent;
+import com.moviehub.review.event.ReviewChangedEvent;
+import com.moviehub.review.mapper.MovieMapper;
+import com.moviehub.review.model.MovieSummary;
+import com.moviehub.review.ranking.TrendingTracker;
+import com.moviehub.review.repository.MovieRepository;
+import com.moviehub.review.service.HomeFeedService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Serves the home page rails from an immutable snapshot that is rebuilt in the background, on a fixed
+ * interval and shortly after any write that can move a movie between rails. Bursts of writes inside the
+ * debounce window collapse into one rebuild.
+ */
+@Service
+public class HomeFeedServiceImpl implements HomeFeedService {
+
+    private static final Logger logger = LoggerFactory.getLogger(HomeFeedServiceImpl.class);
+
+    private static final HomeFeedDto EMPTY_FEED = new HomeFeedDto(List.of(), List.of(), List.of(), List.of(), Instant.EPOCH);
+
+    @Autowired
+    private MovieRepository movieRepository;
+
+    @Autowired
+    private TrendingTracker trendingTracker;
+
+    @Autowired
+    private TaskScheduler taskScheduler;
+
+    @Value("${home.feed.rail-size:12}")
+    private int railSize;
+
+    @Value("${home.feed.top-rated.min-rating-count:5}")
+    private int minRatingCount;
+
+    @Value("${home.feed.refresh-debounce:5s}")
+    private Duration refreshDebounce;
+
+    private final AtomicReference<HomeFeedDto> snapshot = new AtomicReference<>(EMPTY_FEED);
+    private final AtomicBoolean refreshPending = new AtomicBoolean();
+
+    @Override
+    public HomeFeedDto getHomeFeed() {
+        return snapshot.get();
+    }
+
+    @Override
+    public Mono<HomeFeedDto> refreshHomeFeed() {
+        logger.info("Rebuilding home feed snapshot");
+        LocalDate today = LocalDate.now();
+
+        Mono<List<MovieSummaryDto>> trending = findSummariesInOrder(trendingTracker.topMovieIds(railSize));
+        Mono<List<MovieSummaryDto>> topRated = toRail(movieRepository.findTopRatedSummaries(minRatingCount, railSize));
+        Mono<List<MovieSummaryDto>> newlyReleased = toRail(movieRepository.findLatestReleasedSummaries(today, railSize));
+        Mono<List<MovieSummaryDto>> upcoming = toRail(movieRepository.findUpcomingSummaries(today, railSize));
+
+        return Mono.zip(trending, topRated, newlyReleased, upcoming)
+                .map(rails -> new HomeFeedDto(rails.getT1(), rails.getT2(), rails.getT3(), rails.getT4(), Instant.now()))
+                .doOnNext(feed -> {
+                    snapshot.set(feed);
+                    logger.info("Home feed snapshot rebuilt - trending: {}, top rated: {}, newly released: {}, upcoming: {}",
+                            feed.getTrending().size(), feed.getTopRated().size(),
+                            feed.getNewlyReleased().size(), feed.getUpcoming().size());
+                })
+                .doOnError(error -> logger.error("Failed to rebuild home feed snapshot: {}", error.getMessage(), error));
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${home.feed.refresh-interval-ms:300000}",
+            initialDelayString = "${home.feed.refresh-interval-ms:300000}")
+    public void refresh() {
+        refreshHomeFeed().subscribe(feed -> { },
+                error -> logger.error("Scheduled home feed refresh failed: {}", error.getMessage()));
+    }
+
+    @EventListener
+    public void onMovieChanged(MovieChangedEvent event) {
+        scheduleRefresh();
+    }
+
+    @EventListener
+    public void onMovieRatingChanged(MovieRatingChangedEvent event) {
+        scheduleRefresh();
+    }
+
+    @EventListener
+    public void onMoviesReleased(MoviesReleasedEvent event) {
+        scheduleRefresh();
+    }
+
+    @EventListener
+    public void onReviewChanged(ReviewChangedEvent event) {
+        scheduleRefresh();
+    }
+
+    private void scheduleRefresh() {
+        if (refreshPending.compareAndSet(false, true)) {
+            taskScheduler.schedule(() -> {
+                refreshPending.set(false);
+                refresh();
+            }, Instant.now().plus(refreshDebounce));
+        }
+    }
+
+    private Mono<List<MovieSummaryDto>> findSummariesInOrder(List<String> movieIds) {
+        if (movieIds.isEmpty()) {
+            return Mono.just(List.of());
+        }
+        return movieRepository.findSummariesByIds(movieIds)
+                .collectMap(MovieSummary::getMovieId, Function.identity())
+                .map(byId -> orderedRail(movieIds, byId));
+    }
+
+    private List<MovieSummaryDto> orderedRail(List<String> movieIds, Map<String, MovieSummary> byId) {
+        return movieIds.stream()
+                .map(byId::get)
+                .filter(Objects::nonNull)
+                .map(MovieMapper::toSummaryDto)
+                .collect(Collectors.toUnmodifiableList());
+    }
+
+    private Mono<List<MovieSummaryDto>> toRail(Flux<MovieSummary> summaries) {
+        return summaries.map(MovieMapper::toSummaryDto)
+                .collect(Collectors.toUnmodifiableList());
+    }
+}
@@ -1,20 +1,54 @@
 package com.moviehub.review.service.impl;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.moviehub.review.dto.CacheStatsDto;
+import com.moviehub.review.dto.CursorPageDto;
+import com.moviehub.review.dto.MovieFacetSearchDto;
 import com.moviehub.review.dto.MovieRequestDto;
 import com.moviehub.review.dto.MovieResponseDto;
+import com.moviehub.review.dto.MovieSearchCriteria;
+import com.moviehub.review.dto.MovieSuggestionDto;
+import com.moviehub.review.dto.MovieSummaryDto;
+import com.moviehub.review.dto.RatingDistributionDto;
+import com.moviehub.review.dto.SyncRunDto;
+import com.moviehub.review.event.MovieChangedEvent;
+import com.moviehub.review.event.MovieRatingChangedEvent;
 import com.moviehub.review.exception.MovieNotFoundException;
+import com.moviehub.review.mapper.CacheStatsMapper;
 import com.moviehub.review.mapper.MovieMapper;
+import com.moviehub.review.mapper.SyncRunMapper;
 import com.moviehub.review.model.*;
+import com.moviehub.review.ranking.TopRatedLeaderboard;
+import com.moviehub.review.ranking.TrendingTracker;
 import com.moviehub.review.repository.MovieRepository;
+import com.moviehub.review.repository.SyncRunRepository;
+import com.moviehub.review.repository.ReviewRepository;
+import com.moviehub.review.repository.SyncStateRepository;
+import com.moviehub.review.scheduler.SyncLeaseCoordinator;
+import com.moviehub.review.search.FuzzyTitleIndex;
+import com.moviehub.review.search.MovieFacetIndex;
+import com.moviehub.review.search.TitleSuggestIndex;
 import com.moviehub.review.service.MovieService;
+import com.moviehub.review.util.CursorCodec;
+import com.moviehub.review.util.SingleFlight;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
 import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.util.retry.Retry;
@@ -22,9 +56,13 @@ import reactor.util.retry.Retry;
 import java.io.IOException;
 import java.net.SocketException;
 import java.time.Duration;
+import java.time.Instant;
 import java.time.LocalDate;
+import java.time.ZoneOffset;
 import java.util.*;
 import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
 import java.util.stream.Collectors;
 
 @Service
@@ -32,24 +70,88 @@ public class MovieServiceImpl implements MovieService {
 
     private static final Logger logger = LoggerFactory.getLogger(MovieServiceImpl.class);
 
+    private static final int MAX_PAGE_LIMIT = 100;
+    private static final int FUZZY_MATCH_LIMIT = 200;
+    private static final String TMDB_SYNC_STATE_ID = "tmdb-telugu";
+    private static final String TMDB_SYNC_LEASE = "tmdb-sync";
+    private static final int TMDB_CHANGES_MAX_DAYS = 14;
+    private static final int TMDB_CHANGES_BATCH_SIZE = 100;
+    private static final int MOVIE_CACHE_GENERATION_STRIPES = 1024;
+
     @Autowired
     private MovieRepository movieRepository;
 
     @Autowired
-    private WebClient.Builder webClientBuilder;
+    private ReviewRepository reviewRepository;
+
+    @Autowired
+    private SyncStateRepository syncStateRepository;
+
+    @Autowired
+    private SyncRunRepository syncRunRepository;
+
+    @Autowired
+    private SyncLeaseCoordinator syncLeaseCoordinator;
+
+    @Autowired
+    private WebClient tmdbWebClient;
+
+    @Autowired
+    private TitleSuggestIndex titleSuggestIndex;
+
+    @Autowired
+    private TopRatedLeaderboard topRatedLeaderboard;
+
+    @Autowired
+    private TrendingTracker trendingTracker;
+
+    @Autowired
+    private FuzzyTitleIndex fuzzyTitleIndex;
+
+    @Autowired
+    private MovieFacetIndex movieFacetIndex;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private Cache<String, Movie> movieCache;
+
+    @Autowired
+    private Cache<String, Boolean> missingMovieIdCache;
+
+    private final AtomicLongArray movieCacheGenerations = new AtomicLongArray(MOVIE_CACHE_GENERATION_STRIPES);
+
+    @Autowired
+    private SingleFlight<String, Movie> movieByIdFlight;
 
-    @Value("${tmdb.api.base:https://api.themoviedb.org/3}")
-    private String tmdbBaseUrl;
+    @Autowired
+    private SingleFlight<String, Boolean> movieExistsByTmdbIdFlight;
 
     @Value("${tmdb.api.key:}")
     private String tmdbApiKey;
 
+    @Value("${tmdb.autosync.enabled:true}")
+    private boolean tmdbAutoSyncEnabled;
+
+    @Value("${tmdb.sync.originalLanguage:te}")
+    private String tmdbOriginalLanguage;
+
+    @Value("${tmdb.sync.upcomingYearsForward:5}")
+    private int tmdbUpcomingYearsForward;
+
+    // Pacing is left to the shared rate limiter; this only caps how many detail fetches are queued on it
+    @Value("${tmdb.sync.detail-concurrency:8}")
+    private int tmdbDetailConcurrency;
+
     @Override
     public Mono<MovieResponseDto> createMovie(MovieRequestDto movieRequestDto) {
         logger.info("Creating movie: {}", movieRequestDto.getTitle());
 
         Movie movie = MovieMapper.toEntity(movieRequestDto);
         movie.setAverageRating(0.0);
+        movie.setRatingSum(0);
+        movie.setRatingCount(0);
 
         LocalDate today = LocalDate.now();
         LocalDate releaseDate;
@@ -74,6 +176,10 @@ public class MovieServiceImpl implements MovieService {
         return movieRepository.save(movie)
                 .doOnSuccess(savedMovie -> logger.info("Successfully created movie: {} with ID: {}",
                         savedMovie.getTitle(), savedMovie.getMovieId()))
+                .doOnNext(savedMovie -> {
+                    missingMovieIdCache.invalidate(savedMovie.getMovieId());
+                    eventPublisher.publishEvent(MovieChangedEvent.saved(savedMovie));
+                })
                 .doOnError(error -> logger.error("Failed to create movie {}: {}",
                         movieRequestDto.getTitle(), error.getMessage(), error))
                 .map(MovieMapper::toDto);
@@ -83,11 +189,10 @@ public class MovieServiceImpl implements MovieService {
     public Mono<MovieResponseDto> getMovieById(String movieId) {
         logger.info("Fetching movie by ID: {}", movieId);
 
-        return movieRepository.findById(movieId)
+        return findMovieCached(movieId)
                 .switchIfEmpty(Mono.error(new MovieNotFoundException("Movie not found with movieId: " + movieId)))
                 .doOnNext(movie -> logger.debug("Retrieved movie: {}", movie.getTitle()))
                 .doOnError(error -> logger.error("Error fetching movie {}: {}", movieId, error.getMessage()))
-                .map(this::ensureCrewInfoExists)
                 .map(MovieMapper::toDto);
     }
 
@@ -102,6 +207,269 @@ public class MovieServiceImpl implements MovieService {
                 .map(MovieMapper::toDto);
     }
 
+    @Override
+    public Mono<CursorPageDto<MovieResponseDto>> getMoviesPage(String cursor, int limit) {
+        logger.info("Fetching movies page - cursor: {}, limit: {}", cursor, limit);
+
+        int pageLimit = Math.max(1, Math.min(limit, MAX_PAGE_LIMIT));
+        Pageable fetchOneExtra = PageRequest.of(0, pageLimit + 1);
+
+        Flux<Movie> movies;
+        if (cursor == null || cursor.isBlank()) {
+            movies = movieRepository.findFirstPageByTitle(fetchOneExtra);
+        } else {
+            String[] position = CursorCodec.decode(cursor);
+            movies = position[0].isEmpty()
+                    ? movieRepository.findPageAfterMissingTitle(CursorCodec.toIdValue(position[1]), fetchOneExtra)
+                    : movieRepository.findPageAfterTitle(position[0], CursorCodec.toIdValue(position[1]), fetchOneExtra);
+        }
+
+        return movies.collectList()
+                .map(page -> {
+                    boolean hasMore = page.size() > pageLimit;
+                    List<Movie> content = hasMore ? page.subList(0, pageLimit) : page;
+                    Movie last = content.isEmpty() ? null : content.get(content.size() - 1);
+                    String next = hasMore ? CursorCodec.encode(last.getTitle(), last.getMovieId()) : null;
+
+                    List<MovieResponseDto> items = content.stream()
+                            .map(this::ensureCrewInfoExists)
+                            .map(MovieMapper::toDto)
+                            .collect(Collectors.toList());
+                    return new CursorPageDto<>(items, next);
+                })
+                .doOnNext(page -> logger.debug("Movies page returned {} items, hasNext: {}",
+                        page.getItems().size(), page.getNext() != null))
+                .doOnError(error -> logger.error("Error fetching movies page: {}", error.getMessage(), error));
+    }
+
+    @Override
+    public Mono<Page<MovieSummaryDto>> searchMovies(MovieSearchCriteria criteria, Pageable pageable) {
+        logger.info("Searching movies with criteria: {}, page: {}, size: {}",
+                criteria, pageable.getPageNumber(), pageable.getPageSize());
+
+        applyFuzzyMatches(criteria);
+        Mono<List<MovieSummaryDto>> content = movieRepository.searchMovieSummaries(criteria, pageable)
+                .map(MovieMapper::toSummaryDto)
+                .collectList();
+
+        return Mono.zip(content, movieRepository.countMovies(criteria))
+                .<Page<MovieSummaryDto>>map(tuple -> new PageImpl<>(tuple.getT1(), pageable, tuple.getT2()))
+                .doOnNext(page -> logger.debug("Movie search returned {} of {} matching movies",
+                        page.getNumberOfElements(), page.getTotalElements()))
+                .doOnError(error -> logger.error("Error searching movies: {}", error.getMessage(), error));
+    }
+
+    @Override
+    public Flux<MovieSummaryDto> findMovieSummaries(MovieSearchCriteria criteria) {
+        logger.info("Fetching movie summaries with criteria: {}", criteria);
+
+        applyFuzzyMatches(criteria);
+        return movieRepository.searchMovieSummaries(criteria, Pageable.unpaged(Sort.by("title")))
+                .doOnComplete(() -> logger.debug("Completed fetching movie summaries"))
+                .doOnError(error -> logger.error("Error fetching movie summaries: {}", error.getMessage(), error))
+                .map(MovieMapper::toSummaryDto);
+    }
+
+    @Override
+    public Flux<MovieSummaryDto> searchMoviesByText(MovieSearchCriteria criteria, int limit) {
+        logger.info("Full-text movie search with criteria: {}, limit: {}", criteria, limit);
+
+        int pageLimit = Math.max(1, Math.min(limit, MAX_PAGE_LIMIT));
+        if (criteria == null || criteria.getSearch() == null || criteria.getSearch().isBlank()) {
+            // Same order as the title_id index, so Mongo walks it and stops once the limit is filled
+            return movieRepository.searchMovieSummaries(criteria, PageRequest.of(0, pageLimit, Sort.by("title", "_id")))
+                    .doOnError(error -> logger.error("Error in filtered movie search: {}", error.getMessage(), error))
+                    .map(MovieMapper::toSummaryDto);
+        }
+
+        return movieRepository.searchMovieSummariesByText(criteria, pageLimit)
+                .collectList()
+                .flatMapMany(textMatches -> textMatches.size() >= pageLimit
+                        ? Flux.fromIterable(textMatches)
+                        : Flux.fromIterable(textMatches).concatWith(
+                                findFuzzyMatches(criteria, textMatches, pageLimit - textMatches.size())))
+                .doOnComplete(() -> logger.debug("Completed full-text search for: {}", criteria.getSearch()))
+                .doOnError(error -> logger.error("Error in full-text movie search: {}", error.getMessage(), error))
+                .map(MovieMapper::toSummaryDto);
+    }
+
+    // Ranks on the projected summaries, then loads only the ranked movies in full, in rank order
+    @Override
+    public Flux<MovieResponseDto> searchMovieDetailsByText(MovieSearchCriteria criteria, int limit) {
+        return searchMoviesByText(criteria, limit)
+                .map(MovieSummaryDto::getMovieId)
+                .collectList()
+                .flatMapMany(movieIds -> movieRepository.findAllById(movieIds)
+                        .collectMap(Movie::getMovieId)
+                        .flatMapIterable(moviesById -> movieIds.stream()
+                                .map(moviesById::get)
+                                .filter(Objects::nonNull)
+                                .collect(Collectors.toList())))
+                .doOnError(error -> logger.error("Error loading movie search results: {}", error.getMessage(), error))
+                .map(this::ensureCrewInfoExists)
+                .map(MovieMapper::toDto);
+    }
+
+    // Tops up text-index hits with typo/romanization matches ("Bahubaali"), which $text cannot find.
+    private Flux<MovieSummary> findFuzzyMatches(MovieSearchCriteria criteria, List<MovieSummary> found, int remaining) {
+        Set<String> foundIds = found.stream().map(MovieSummary::getMovieId).collect(Collectors.toSet());
+        List<String> fuzzyIds = fuzzyTitleIndex.findMatchingMovieIds(criteria.getSearch(), FUZZY_MATCH_LIMIT).stream()
+                .filter(movieId -> !foundIds.contains(movieId))
+                .collect(Collectors.toList());
+        if (fuzzyIds.isEmpty()) {
+            return Flux.empty();
+        }
+
+        return movieRepository.findSummariesByIds(fuzzyIds, criteria)
+                .collectMap(MovieSummary::getMovieId)
+                .flatMapIterable(byId -> fuzzyIds.stream()
+                        .map(byId::get)
+                        .filter(Objects::nonNull)
+                        .limit(remaining)
+                        .collect(Collectors.toList()));
+    }
+
+    private void applyFuzzyMatches(MovieSearchCriteria criteria) {
+        if (criteria != null && criteria.getSearch() != null && !criteria.getSearch().isBlank()) {
+            criteria.setFuzzyMatchIds(fuzzyTitleIndex.findMatchingMovieIds(criteria.getSearch(), FUZZY_MATCH_LIMIT));
+        }
+    }
+
+    @Override
+    public Mono<MovieFacetSearchDto> searchMovieFacets(Map<String, List<String>> filters, int page, int size) {
+        logger.info("Faceted movie search with filters: {}, page: {}, size: {}", filters, page, size);
+
+        int pageNumber = Math.max(0, page);
+        int pageSize = Math.max(1, Math.min(size, MAX_PAGE_LIMIT));
+        MovieFacetIndex.FacetResult result = movieFacetIndex.search(filters, (long) pageNumber * pageSize, pageSize);
+        List<String> movieIds = result.getMovieIds();
+
+        Mono<Map<String, MovieSummary>> summaries = movieIds.isEmpty()
+                ? Mono.just(Collections.emptyMap())
+                : movieRepository.findSummariesByIds(movieIds).collectMap(MovieSummary::getMovieId);
+
+        return summaries
+                .map(byId -> {
+                    MovieFacetSearchDto dto = new MovieFacetSearchDto();
+                    dto.setTotalElements(result.getTotal());
+                    dto.setPage(pageNumber);
+                    dto.setSize(pageSize);
+                    dto.setItems(movieIds.stream()
+                            .map(byId::get)
+                            .filter(Objects::nonNull)
+                            .map(MovieMapper::toSummaryDto)
+                            .collect(Collectors.toList()));
+                    dto.setFacets(result.getCounts());
+                    return dto;
+                })
+                .doOnNext(dto -> logger.debug("Faceted search matched {} movies", dto.getTotalElements()))
+                .doOnError(error -> logger.error("Error in faceted movie search: {}", error.getMessage(), error));
+    }
+
+    @Override
+    public Flux<MovieSuggestionDto> suggestMovies(String query, int limit) {
+        logger.debug("Suggesting movies for prefix: {}, limit: {}", query, limit);
+
+        return Flux.fromIterable(titleSuggestIndex.suggest(query, limit));
+    }
+
+    @Override
+    public Flux<MovieSummaryDto> getTopRatedMovies(String genre, Integer year, int limit) {
+        logger.debug("Fetching top rated movies - genre: {}, year: {}, limit: {}", genre, year, limit);
+
+        String trimmedGenre = genre != null && !genre.isBlank() ? genre.trim() : null;
+        int boundedLimit = Math.max(1, Math.min(limit, MAX_PAGE_LIMIT));
+        return Flux.fromIterable(topRatedLeaderboard.top(trimmedGenre, year, boundedLimit));
+    }
+
+    @Override
+    public Flux<MovieSummaryDto> getTrendingMovies(int limit) {
+        logger.debug("Fetching trending movies, limit: {}", limit);
+
+        List<String> movieIds = trendingTracker.topMovieIds(Math.max(1, Math.min(limit, MAX_PAGE_LIMIT)));
+        if (movieIds.isEmpty()) {
+            return Flux.empty();
+        }
+        return movieRepository.findSummariesByIds(movieIds)
+                .collectMap(MovieSummary::getMovieId)
+                .flatMapIterable(byId -> movieIds.stream()
+                        .map(byId::get)
+                        .filter(Objects::nonNull)
+                        .map(MovieMapper::toSummaryDto)
+                        .collect(Collectors.toList()))
+                .doOnError(error -> logger.error("Failed to fetch trending movies: {}", error.getMessage(), error));
+    }
+
+    @Override
+    public Mono<Map<String, String>> getMovieTitles(Collection<String> movieIds) {
+        logger.debug("Resolving titles for {} movie IDs", movieIds.size());
+
+        if (movieIds.isEmpty()) {
+            return Mono.just(Collections.emptyMap());
+        }
+
+        return movieRepository.findSummariesByIds(movieIds)
+                .filter(summary -> summary.getTitle() != null)
+                .collectMap(MovieSummary::getMovieId, MovieSummary::getTitle)
+                .doOnError(error -> logger.error("Error resolving movie titles: {}", error.getMessage(), error));
+    }
+
+    @Override
+    public Mono<MovieResponseDto> findMovieById(String movieId) {
+        logger.debug("Looking up movie by ID: {}", movieId);
+
+        return findMovieCached(movieId)
+                .map(MovieMapper::toDto);
+    }
+
+    @Override
+    public CacheStatsDto getMovieCacheStats() {
+        return CacheStatsMapper.toDto(movieCache);
+    }
+
+    @Override
+    public void evictCachedMovies(Collection<String> movieIds) {
+        logger.debug("Evicting {} movies from cache", movieIds.size());
+        movieIds.forEach(this::invalidateCachedMovie);
+    }
+
+    // Cached movies are shared across requests, so they are normalised once here and never mutated after.
+    private Mono<Movie> findMovieCached(String movieId) {
+        Movie cached = movieCache.getIfPresent(movieId);
+        if (cached != null) {
+            return Mono.just(cached);
+        }
+        if (missingMovieIdCache.getIfPresent(movieId) != null) {
+            logger.debug("Movie ID {} recently looked up and not found, skipping database", movieId);
+            return Mono.empty();
+        }
+        return movieByIdFlight.execute(movieId, () -> {
+            long generation = movieCacheGenerations.get(generationStripe(movieId));
+            return movieRepository.findById(movieId)
+                    .map(this::ensureCrewInfoExists)
+                    .doOnNext(movie -> cacheMovie(movieId, movie, generation))
+                    .switchIfEmpty(Mono.fromRunnable(() -> missingMovieIdCache.put(movieId, Boolean.TRUE)));
+        });
+    }
+
+    // An invalidation bumps the movie's generation inside the same per-key compute as the fill, so a load
+    // that started before a write can no longer put its stale copy back after the write evicted it.
+    private void cacheMovie(String movieId, Movie movie, long generation) {
+        movieCache.asMap().compute(movieId, (id, current) ->
+                movieCacheGenerations.get(generationStripe(id)) == generation ? movie : current);
+    }
+
+    private void invalidateCachedMovie(String movieId) {
+        movieCache.asMap().compute(movieId, (id, current) -> {
+            movieCacheGenerations.incrementAndGet(generationStripe(id));
+            return null;
+        });
+    }
+
+    private static int generationStripe(String movieId) {
+        return Math.floorMod(movieId.hashCode(), MOVIE_CACHE_GENERATION_STRIPES);
+    }
+
     @Override
     public Mono<MovieResponseDto> updateMovie(String movieId, MovieRequestDto movieRequestDto) {
         logger.info("Updating movie ID: {} with title: {}", movieId, movieRequestDto.getTitle());
@@ -133,6 +501,10 @@ public class MovieServiceImpl implements MovieService {
                     return movieRepository.save(existingMovie);
                 })
                 .doOnSuccess(movie -> logger.info("Successfully updated movie: {} with ID: {}", movie.getTitle(), movieId))
+                .doOnNext(movie -> {
+                    invalidateCachedMovie(movieId);
+                    eventPublisher.publishEvent(MovieChangedEvent.saved(movie));
+                })
                 .doOnError(error -> logger.error("Failed to update movie {}: {}", movieId, error.getMessage(), error))
                 .map(MovieMapper::toDto);
     }
@@ -145,7 +517,12 @@ public class MovieServiceImpl implements MovieService {
                 .switchIfEmpty(Mono.error(new MovieNotFoundException("Movie not found with movieId: " + movieId)))
                 .doOnNext(movie -> logger.debug("Found movie to delete: {}", movie.getTitle()))
                 .flatMap(movie -> movieRepository.deleteById(movieId))
-                .doOnSuccess(unused -> logger.info("Successfully deleted movie ID: {}", movieId))
+                .doOnSuccess(unused -> {
+                    logger.info("Successfully deleted movie ID: {}", movieId);
+                    invalidateCachedMovie(movieId);
+                    missingMovieIdCache.put(movieId, Boolean.TRUE);
+                    eventPublisher.publishEvent(MovieChangedEvent.deleted(movieId));
+                })
                 .doOnError(error -> logger.error("Failed to delete movie {}: {}", movieId, error.getMessage(), error));
     }
 
@@ -153,31 +530,58 @@ public class MovieServiceImpl implements MovieService {
     public Mono<MovieResponseDto> updateMovieRating(String movieId, Double newRating) {
         logger.info("Updating rating for movie ID: {} to {}", movieId, newRating);
 
-        return movieRepository.findById(movieId)
+        return movieRepository.updateAverageRating(movieId, newRating)
+                .doOnNext(movie -> invalidateCachedMovie(movieId))
                 .switchIfEmpty(Mono.error(new MovieNotFoundException("Movie not found with movieId: " + movieId)))
-                .flatMap(movie -> {
-                    logger.debug("Updating rating for movie: {} from {} to {}",
-                            movie.getTitle(), movie.getAverageRating(), newRating);
-                    movie.setAverageRating(newRating);
-                    return movieRepository.save(movie);
-                })
                 .doOnSuccess(movie -> logger.info("Successfully updated rating for movie: {}", movie.getTitle()))
                 .doOnError(error -> logger.error("Failed to update rating for movie {}: {}", movieId, error.getMessage(), error))
                 .map(MovieMapper::toDto);
     }
 
     @Override
-    public Flux<MovieResponseDto> findMoviesByGenre(String genre) {
+    public Mono<Void> applyRatingChange(String movieId, Integer removedRating, Integer addedRating) {
+        logger.debug("Applying rating change for movie ID: {} (removed: {}, added: {})", movieId, removedRating, addedRating);
+
+        return movieRepository.applyRatingChange(movieId, removedRating, addedRating)
+                .switchIfEmpty(Mono.defer(() -> seedRatingTotals(movieId, removedRating, addedRating)))
+                .doOnNext(movie -> logger.debug("Movie {} rating totals now sum={}, count={}, average={}",
+                        movieId, movie.getRatingSum(), movie.getRatingCount(), movie.getAverageRating()))
+                .doOnNext(movie -> invalidateCachedMovie(movieId))
+                .doOnNext(movie -> eventPublisher.publishEvent(new MovieRatingChangedEvent(movieId,
+                        movie.getRatingSum(), movie.getRatingCount(), movie.getAverageRating())))
+                .doOnError(error -> logger.error("Failed to apply rating change for movie {}: {}", movieId, error.getMessage(), error))
+                .then();
+    }
+
+    // The review write has already happened, so totals aggregated now include it and need no increment.
+    // If another writer seeded first, fall back to incrementing on top of what it stored.
+    private Mono<Movie> seedRatingTotals(String movieId, Integer removedRating, Integer addedRating) {
+        logger.info("Seeding rating totals for movie ID: {} from its reviews", movieId);
+
+        return reviewRepository.aggregateRatingTotals(movieId)
+                .defaultIfEmpty(new RatingTotals(movieId, 0, 0, 0.0, new HashMap<>()))
+                .flatMap(totals -> movieRepository.seedRatingTotals(totals))
+                .switchIfEmpty(Mono.defer(() -> movieRepository.applyRatingChange(movieId, removedRating, addedRating)));
+    }
+
+    @Override
+    public Mono<RatingDistributionDto> getRatingDistribution(String movieId) {
+        logger.info("Fetching rating distribution for movie ID: {}", movieId);
+
+        return movieRepository.findRatingTotals(movieId)
+                .switchIfEmpty(Mono.error(new MovieNotFoundException("Movie not found with movieId: " + movieId)))
+                .map(totals -> MovieMapper.toRatingDistributionDto(movieId, totals.getRatingHistogram(), totals.getAverageRating()))
+                .doOnError(error -> logger.error("Error fetching rating distribution for movie {}: {}", movieId, error.getMessage()));
+    }
+
+    @Override
+    public Flux<MovieSummaryDto> findMoviesByGenre(String genre) {
         logger.info("Finding movies by genre: {}", genre);
 
-        return movieRepository.findAll()
-                .filter(movie -> movie.getGenre() != null &&
-                        movie.getGenre().stream().anyMatch(g ->
-                                g.toLowerCase().contains(genre.toLowerCase())))
+        return movieRepository.searchMovieSummaries(new MovieSearchCriteria(null, genre, null, null), Pageable.unpaged())
                 .doOnComplete(() -> logger.debug("Completed genre search for: {}", genre))
                 .doOnError(error -> logger.error("Error finding movies by genre {}: {}", genre, error.getMessage(), error))
-                .map(this::ensureCrewInfoExists)
-                .map(MovieMapper::toDto);
+                .map(MovieMapper::toSummaryDto);
     }
 
     @Override
@@ -192,47 +596,238 @@ public class MovieServiceImpl implements MovieService {
         return createMovie(dto);
     }
 
-    //@Scheduled(cron = "0 0 0 * * *") //daily sync up at mid night 12
-    @Scheduled(cron = "0 * * * * *") // sync up per each minute to load the data from
-    public void syncTeluguMoviesDaily() {
+    @Scheduled(cron = "${tmdb.sync.incremental-cron:0 */15 * * * *}")
+    public void syncTeluguMoviesIncrementally() {
+        runScheduledTmdbSync(false);
+    }
+
+    @Scheduled(cron = "${tmdb.sync.full-cron:0 0 3 * * SUN}")
+    public void syncTeluguMoviesWeekly() {
+        runScheduledTmdbSync(true);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void resumeInterruptedTmdbSync() {
+        if (!tmdbAutoSyncEnabled || tmdbApiKey == null || tmdbApiKey.isBlank()) {
+            return;
+        }
+
+        loadSyncState()
+                .filter(state -> state.getCheckpoint() != null)
+                .flatMap(state -> syncTmdbMovies(true))
+                .subscribe(
+                        ran -> {
+                            if (!ran) {
+                                logger.info("Interrupted Telugu movie sync is being resumed elsewhere");
+                            }
+                        },
+                        error -> logger.error("Resumed Telugu movie sync error: {}", error.getMessage(), error)
+                );
+    }
+
+    @Override
+    public Flux<SyncRunDto> getTmdbSyncRuns(int limit) {
+        logger.debug("Fetching last {} TMDb sync runs", limit);
+
+        return syncRunRepository.findAllByOrderByStartedAtDesc(PageRequest.of(0, Math.max(1, Math.min(limit, MAX_PAGE_LIMIT))))
+                .map(SyncRunMapper::toDto);
+    }
+
+    @Override
+    public Mono<Boolean> syncTmdbMovies(boolean fullWalk) {
+        if (tmdbApiKey == null || tmdbApiKey.isBlank()) {
+            return Mono.error(new IllegalStateException("TMDb API key not configured"));
+        }
+        return syncLeaseCoordinator.runExclusively(TMDB_SYNC_LEASE,
+                () -> fullWalk ? syncAllTeluguMovies() : syncChangedTeluguMovies());
+    }
+
+    private void runScheduledTmdbSync(boolean fullWalk) {
+        if (!tmdbAutoSyncEnabled) {
+            return;
+        }
         if (tmdbApiKey == null || tmdbApiKey.isBlank()) {
             logger.warn("TMDb API key not configured, skipping Telugu movie sync");
             return;
         }
 
-        logger.info("Starting comprehensive Telugu movie sync from 1990 to future");
+        syncTmdbMovies(fullWalk)
+                .subscribe(
+                        ran -> {
+                            if (!ran) {
+                                logger.info("Scheduled {} Telugu movie sync skipped, another sync is already running",
+                                        fullWalk ? "full" : "incremental");
+                            }
+                        },
+                        error -> logger.error("Telugu movie sync error: {}", error.getMessage(), error)
+                );
+    }
 
-        WebClient client = webClientBuilder.baseUrl(tmdbBaseUrl).build();
-        int currentYear = LocalDate.now().getYear();
+    // Resumes from the stored (language, year, page) checkpoint when the previous walk did not finish
+    private Mono<Void> syncAllTeluguMovies() {
         int startYear = 1990;
-        int endYear = currentYear + 15;
-
-        List<Integer> yearsToSync = new ArrayList<>();
-        for (int year = startYear; year <= endYear; year++) {
-            yearsToSync.add(year);
-        }
+        int endYear = LocalDate.now().getYear() + 15;
+
+        return loadSyncState()
+                .flatMap(state -> {
+                    SyncCheckpoint checkpoint = state.getCheckpoint();
+                    boolean resuming = checkpoint != null && tmdbOriginalLanguage.equals(checkpoint.getLanguage());
+                    int resumeYear = resuming ? checkpoint.getYear() : startYear;
+                    int resumePage = resuming ? checkpoint.getPage() + 1 : 1;
+
+                    Mono<SyncRun> run = resuming
+                            ? syncRunRepository.findById(checkpoint.getRunId())
+                                    .defaultIfEmpty(new SyncRun(checkpoint.getRunId(), SyncRun.Mode.FULL))
+                                    .doOnNext(resumed -> {
+                                        resumed.setStatus(SyncRun.Status.RUNNING);
+                                        resumed.setResumes(resumed.getResumes() + 1);
+                                    })
+                            : Mono.just(new SyncRun(UUID.randomUUID().toString(), SyncRun.Mode.FULL));
+
+                    if (resuming) {
+                        logger.info("Resuming full Telugu movie sync {} at year {} page {}",
+                                checkpoint.getRunId(), resumeYear, resumePage);
+                    } else {
+                        logger.info("Starting full Telugu movie sync from {} to {}", startYear, endYear);
+                    }
 
-        logger.info("Syncing Telugu movies from {} to {} ({} years)", startYear, endYear, yearsToSync.size());
+                    return run.flatMap(syncRun -> trackSyncRun(syncRun,
+                            Flux.range(resumeYear, Math.max(0, endYear - resumeYear + 1))
+                                    .concatMap(year -> syncAllTeluguMoviesByYear(syncRun, year,
+                                                    year == resumeYear ? resumePage : 1))
+                                    .then(Mono.defer(() -> syncStateRepository.markFullSynced(TMDB_SYNC_STATE_ID, Instant.now())))));
+                })
+                .doOnSuccess(unused -> logger.info("Complete Telugu movie sync finished! ({}-{})", startYear, endYear));
+    }
 
-        int batchSize = 5;
-        Flux.range(0, (int) Math.ceil(yearsToSync.size() / (double) batchSize))
-                .concatMap(batchIndex -> {
-                    int startIndex = batchIndex * batchSize;
-                    int endIndex = Math.min(startIndex + batchSize, yearsToSync.size());
-                    List<Integer> batchYears = yearsToSync.subList(startIndex, endIndex);
+    // Saves the run record before and after the sync and accumulates the time actually spent running,
+    // so a walk resumed after a restart reports its real throughput.
+    private Mono<Void> trackSyncRun(SyncRun run, Mono<Void> sync) {
+        long segmentStartedAt = System.currentTimeMillis();
+
+        return syncRunRepository.save(run)
+                .then(sync)
+                .then(Mono.defer(() -> {
+                    run.setStatus(SyncRun.Status.COMPLETED);
+                    return finishSyncRun(run, segmentStartedAt);
+                }))
+                .onErrorResume(error -> {
+                    run.setStatus(SyncRun.Status.FAILED);
+                    run.setError(error.getMessage());
+                    return finishSyncRun(run, segmentStartedAt).then(Mono.error(error));
+                });
+    }
 
-                    logger.debug("Processing batch {}: {}", batchIndex + 1, batchYears);
+    private Mono<Void> finishSyncRun(SyncRun run, long segmentStartedAt) {
+        run.setFinishedAt(Instant.now());
+        run.setActiveMillis(run.getActiveMillis() + System.currentTimeMillis() - segmentStartedAt);
+        return syncRunRepository.save(run)
+                .doOnSuccess(saved -> logger.info("TMDb sync run {} {} - pages: {} ({} failed), movies seen: {}, created: {}, refreshed: {}, active {} ms",
+                        saved.getRunId(), saved.getStatus(), saved.getPagesFetched(), saved.getPagesFailed(),
+                        saved.getMoviesSeen(), saved.getMoviesCreated(), saved.getMoviesRefreshed(), saved.getActiveMillis()))
+                .then();
+    }
 
-                    return Flux.fromIterable(batchYears)
-                            .concatMap(year -> syncAllTeluguMoviesByYear(client, year)
-                                    .delayElement(Duration.ofMillis(250)))
+    // New titles surface through discover of the current and upcoming years; anything older that TMDb
+    // edits shows up in /movie/changes, which is global, so only ids we already store are refreshed.
+    private Mono<Void> syncChangedTeluguMovies() {
+        SyncRun run = new SyncRun(UUID.randomUUID().toString(), SyncRun.Mode.INCREMENTAL);
+        LocalDate today = LocalDate.now(ZoneOffset.UTC);
+        int currentYear = today.getYear();
+
+        return loadSyncState()
+                .flatMap(state -> {
+                    LocalDate from = state.getChangesWatermark() != null
+                            ? LocalDate.ofInstant(state.getChangesWatermark(), ZoneOffset.UTC)
+                            : today.minusDays(1);
+                    logger.info("Starting incremental Telugu movie sync - changes since {}, discover {}-{}",
+                            from, currentYear, currentYear + tmdbUpcomingYearsForward);
+
+                    // A failed refresh does not stop the others, but it keeps the watermark where it was
+                    // so the next run sees that change again
+                    AtomicInteger failedRefreshes = new AtomicInteger();
+                    Mono<Long> refreshed = fetchChangedTmdbIds(from, today)
+                            .buffer(TMDB_CHANGES_BATCH_SIZE)
+                            .concatMap(tmdbIds -> movieRepository.findByTmdbIdIn(tmdbIds))
+                            .flatMap(movie -> refreshMovieFromTmdb(movie)
+                                    .onErrorResume(error -> {
+                                        failedRefreshes.incrementAndGet();
+                                        return Mono.empty();
+                                    }), tmdbDetailConcurrency)
+                            .count()
+                            .doOnNext(count -> run.setMoviesRefreshed(count.intValue()));
+                    Mono<Void> discovered = Flux.range(currentYear, tmdbUpcomingYearsForward + 1)
+                            .concatMap(year -> syncAllTeluguMoviesByYear(run, year, 1))
                             .then();
+
+                    return trackSyncRun(run, refreshed
+                            .then(discovered)
+                            .then(Mono.defer(() -> failedRefreshes.get() > 0
+                                    ? Mono.error(new IllegalStateException(failedRefreshes.get()
+                                            + " movie refreshes failed, changes watermark left at " + from))
+                                    : syncStateRepository.markChangesSynced(
+                                            TMDB_SYNC_STATE_ID, run.getStartedAt(), Instant.now()))));
+                });
+    }
+
+    private Mono<SyncState> loadSyncState() {
+        return syncStateRepository.findById(TMDB_SYNC_STATE_ID)
+                .defaultIfEmpty(new SyncState(TMDB_SYNC_STATE_ID, null, null, null, null));
+    }
+
+    private Flux<String> fetchChangedTmdbIds(LocalDate from, LocalDate to) {
+        List<LocalDate> windowStarts = new ArrayList<>();
+        for (LocalDate start = from; !start.isAfter(to); start = start.plusDays(TMDB_CHANGES_MAX_DAYS)) {
+            windowStarts.add(start);
+        }
+
+        return Flux.fromIterable(windowStarts)
+                .concatMap(start -> {
+                    LocalDate end = start.plusDays(TMDB_CHANGES_MAX_DAYS - 1).isAfter(to)
+                            ? to : start.plusDays(TMDB_CHANGES_MAX_DAYS - 1);
+                    return fetchTmdbChangesPage(start, end, 1)
+                            .flatMapMany(firstPage -> {
+                                int totalPages = (int) firstPage.getOrDefault("total_pages", 1);
+                                return Flux.concat(Mono.just(firstPage),
+                                        Flux.range(2, Math.max(0, totalPages - 1))
+                                                .concatMap(page -> fetchTmdbChangesPage(start, end, page)));
+                            });
                 })
-                .subscribe(
-                        null,
-                        error -> logger.error("Telugu movie sync error: {}", error.getMessage(), error),
-                        () -> logger.info("Complete Telugu movie sync finished! (1990-{})", endYear)
-                );
+                .flatMapIterable(response -> {
+                    List<Map<String, Object>> results = (List<Map<String, Object>>) response.get("results");
+                    return results != null ? results : List.<Map<String, Object>>of();
+                })
+                .filter(change -> change.get("id") != null && !Boolean.TRUE.equals(change.get("adult")))
+                .map(change -> String.valueOf(change.get("id")))
+                .distinct();
+    }
+
+    // Errors are not swallowed here: a missed changes page must not advance the watermark.
+    private Mono<Map<String, Object>> fetchTmdbChangesPage(LocalDate from, LocalDate to, int page) {
+        return tmdbWebClient.get()
+                .uri(uriBuilder -> uriBuilder
+                        .path("/movie/changes")
+                        .queryParam("api_key", tmdbApiKey)
+                        .queryParam("start_date", from)
+                        .queryParam("end_date", to)
+                        .queryParam("page", page)
+                        .build())
+                .retrieve()
+                .bodyToMono(new ParameterizedTypeReference<Map<String, Object>>() {})
+                .doOnNext(response -> logger.debug("TMDb changes {} to {} - page {}/{}",
+                        from, to, page, response.getOrDefault("total_pages", 1)));
+    }
+
+    private Mono<Movie> refreshMovieFromTmdb(Movie existing) {
+        return fetchCompleteMovieDataFromTmdb(existing.getTmdbId())
+                .flatMap(completeData -> movieRepository.applyTmdbRefresh(existing.getMovieId(),
+                        createMovieFromTmdbData(completeData)))
+                .doOnNext(saved -> {
+                    logger.debug("Refreshed movie {} from TMDb changes", saved.getTitle());
+                    invalidateCachedMovie(saved.getMovieId());
+                    eventPublisher.publishEvent(MovieChangedEvent.saved(saved));
+                })
+                .doOnError(error -> logger.error("Failed to refresh movie with TMDb ID {}: {}", existing.getTmdbId(), error.getMessage()));
     }
 
     private Movie ensureCrewInfoExists(Movie movie) {
@@ -311,6 +906,8 @@ public class MovieServiceImpl implements MovieService {
 
         movie.setGenre(List.of("Telugu", "Indian Cinema"));
         movie.setAverageRating(0.0);
+        movie.setRatingSum(0);
+        movie.setRatingCount(0);
 
         return movie;
     }
@@ -399,53 +996,67 @@ public class MovieServiceImpl implements MovieService {
                 .collect(Collectors.toList());
     }
 
-    private Mono<Void> syncAllTeluguMoviesByYear(WebClient client, int year) {
-        return fetchTeluguMoviesPage(client, year, 1)
+    // A failed page fetch ends the walk with the checkpoint still on the last page that completed,
+    // so the resumed run starts again from the page that failed.
+    private Mono<Void> syncAllTeluguMoviesByYear(SyncRun run, int year, int firstPage) {
+        return fetchDiscoverPage(run, year, firstPage)
                 .flatMap(firstPageResponse -> {
                     int totalPages = (int) firstPageResponse.getOrDefault("total_pages", 1);
                     int totalResults = (int) firstPageResponse.getOrDefault("total_results", 0);
 
                     logger.debug("Year {}: Found {} Telugu movies across {} pages", year, totalResults, totalPages);
 
-                    if (totalResults == 0) {
-                        logger.debug("Year {}: No Telugu movies found, skipping", year);
-                        return Mono.empty();
+                    if (totalResults == 0 || firstPage > totalPages) {
+                        logger.debug("Year {}: No Telugu movies left from page {}, skipping", year, firstPage);
+                        return checkpointDiscoverPage(run, year, totalPages);
                     }
 
-                    List<Map<String, Object>> firstPageResults =
-                            (List<Map<String, Object>>) firstPageResponse.get("results");
-
-                    Flux<Void> firstPageFlux = Flux.fromIterable(firstPageResults != null ? firstPageResults : List.of())
-                            .flatMap(this::saveTeluguMovieFromTmdb);
-
-                    Flux<Void> remainingPagesFlux = Flux.range(2, Math.max(0, totalPages - 1))
-                            .concatMap(pageNum ->
-                                    fetchTeluguMoviesPage(client, year, pageNum)
-                                            .delayElement(Duration.ofMillis(100))
-                                            .flatMapMany(response -> {
-                                                List<Map<String, Object>> results =
-                                                        (List<Map<String, Object>>) response.get("results");
-                                                return Flux.fromIterable(results != null ? results : List.of());
-                                            })
-                                            .flatMap(this::saveTeluguMovieFromTmdb)
-                            );
-
-                    return Flux.concat(firstPageFlux, remainingPagesFlux)
+                    return Flux.range(firstPage, totalPages - firstPage + 1)
+                            .concatMap(pageNum -> (pageNum == firstPage
+                                    ? Mono.just(firstPageResponse)
+                                    : fetchDiscoverPage(run, year, pageNum))
+                                    .flatMap(response -> syncDiscoverPage(run, year, pageNum, response)))
                             .then()
                             .doOnSuccess(v -> logger.debug("Year {} completed", year));
-                })
-                .onErrorResume(error -> {
-                    logger.error("Error processing year {}: {}", year, error.getMessage(), error);
-                    return Mono.empty();
                 });
     }
 
-    private Mono<Map<String, Object>> fetchTeluguMoviesPage(WebClient client, int year, int page) {
-        return client.get()
+    private Mono<Map<String, Object>> fetchDiscoverPage(SyncRun run, int year, int page) {
+        return fetchTeluguMoviesPage(year, page)
+                .doOnError(error -> run.setPagesFailed(run.getPagesFailed() + 1));
+    }
+
+    private Mono<Void> syncDiscoverPage(SyncRun run, int year, int page, Map<String, Object> response) {
+        List<Map<String, Object>> results = (List<Map<String, Object>>) response.get("results");
+        List<Map<String, Object>> movies = results != null ? results : List.of();
+
+        return Flux.fromIterable(movies)
+                .flatMap(this::saveTeluguMovieFromTmdb, tmdbDetailConcurrency)
+                .count()
+                .flatMap(created -> {
+                    run.setPagesFetched(run.getPagesFetched() + 1);
+                    run.setMoviesSeen(run.getMoviesSeen() + movies.size());
+                    run.setMoviesCreated(run.getMoviesCreated() + created.intValue());
+                    return checkpointDiscoverPage(run, year, page);
+                });
+    }
+
+    private Mono<Void> checkpointDiscoverPage(SyncRun run, int year, int page) {
+        if (run.getMode() != SyncRun.Mode.FULL) {
+            return Mono.empty();
+        }
+        SyncCheckpoint checkpoint = new SyncCheckpoint(run.getRunId(), tmdbOriginalLanguage, year, page, Instant.now());
+        return syncStateRepository.saveCheckpoint(TMDB_SYNC_STATE_ID, checkpoint)
+                .then(syncRunRepository.save(run))
+                .then();
+    }
+
+    private Mono<Map<String, Object>> fetchTeluguMoviesPage(int year, int page) {
+        return tmdbWebClient.get()
                 .uri(uriBuilder -> uriBuilder
                         .path("/discover/movie")
                         .queryParam("api_key", tmdbApiKey)
-                        .queryParam("with_original_language", "te")
+                        .queryParam("with_original_language", tmdbOriginalLanguage)
                         .queryParam("region", "IN")
                         .queryParam("primary_release_year", year)
                         .queryParam("sort_by", "popularity.desc")
@@ -453,7 +1064,6 @@ public class MovieServiceImpl implements MovieService {
                         .build())
                 .retrieve()
                 .bodyToMono(new ParameterizedTypeReference<Map<String, Object>>() {})
-                .timeout(Duration.ofSeconds(10))
                 .doOnNext(response -> {
                     int currentPage = (int) response.getOrDefault("page", page);
                     int totalPages = (int) response.getOrDefault("total_pages", 1);
@@ -464,13 +1074,10 @@ public class MovieServiceImpl implements MovieService {
                         logger.debug("Year {} - Page {}/{} - {} movies", year, currentPage, totalPages, resultsCount);
                     }
                 })
-                .onErrorResume(error -> {
-                    logger.warn("Error fetching year {} page {}: {}", year, page, error.getMessage());
-                    return Mono.just(new HashMap<>());
-                });
+                .doOnError(error -> logger.warn("Error fetching year {} page {}: {}", year, page, error.getMessage()));
     }
 
-    private Mono<Void> saveTeluguMovieFromTmdb(Map<String, Object> movieData) {
+    private Mono<Movie> saveTeluguMovieFromTmdb(Map<String, Object> movieData) {
         try {
             String title = (String) movieData.get("title");
             String originalTitle = (String) movieData.get("original_title");
@@ -483,8 +1090,8 @@ public class MovieServiceImpl implements MovieService {
             }
 
             return Mono.zip(
-                            movieRepository.findByTitleIgnoreCase(movieTitle).hasElement(),
-                            movieRepository.findByTmdbId(tmdbId).hasElement()
+                            movieRepository.existsByTitle(movieTitle),
+                            movieExistsByTmdbIdFlight.execute(tmdbId, () -> movieRepository.findByTmdbId(tmdbId).hasElement())
                     )
                     .flatMap(tuple -> {
                         boolean titleExists = tuple.getT1();
@@ -507,6 +1114,11 @@ public class MovieServiceImpl implements MovieService {
 
                                     return movieRepository.save(movie);
                                 })
+                                .doOnNext(saved -> {
+                                    invalidateCachedMovie(saved.getMovieId());
+                                    missingMovieIdCache.invalidate(saved.getMovieId());
+                                    eventPublisher.publishEvent(MovieChangedEvent.saved(saved));
+                                })
                                 .doOnSuccess(saved -> {
                                     if (saved != null && saved.getTitle() != null) {
                                         logger.debug("Successfully saved new movie: {}", saved.getTitle());
@@ -520,8 +1132,7 @@ public class MovieServiceImpl implements MovieService {
                                 .onErrorResume(error -> {
                                     logger.debug("Continuing sync despite error for TMDb ID: {}", tmdbId);
                                     return Mono.empty();
-                                })
-                                .then();
+                                });
                     })
                     .onErrorResume(error -> {
                         logger.error("Error in duplicate check for TMDb ID {}: {}", tmdbId, error.getMessage());
@@ -534,20 +1145,15 @@ public class MovieServiceImpl implements MovieService {
     }
 
     private Mono<Map<String, Object>> fetchCompleteMovieDataFromTmdb(String tmdbId) {
-        WebClient client = webClientBuilder
-                .baseUrl(tmdbBaseUrl)
-                .codecs(configurer -> configurer.defaultCodecs().maxInMemorySize(2 * 1024 * 1024))
-                .build();
-
-        return client.get()
+        return tmdbWebClient.get()
                 .uri("/movie/{id}?api_key={apiKey}&append_to_response=credits,watch/providers,keywords", tmdbId, tmdbApiKey)
                 .retrieve()
                 .bodyToMono(new ParameterizedTypeReference<Map<String, Object>>() {})
-                .timeout(Duration.ofSeconds(15))
                 .retryWhen(Retry.backoff(3, Duration.ofSeconds(2))
                         .filter(throwable ->
                                 throwable instanceof SocketException ||
                                         throwable instanceof TimeoutException ||
+                                        throwable instanceof WebClientRequestException ||
                                         throwable instanceof IOException)
                         .onRetryExhaustedThrow((retryBackoffSpec, retrySignal) -> {
                             logger.warn("Max retries exceeded for movie {}", tmdbId);
@@ -556,10 +1162,11 @@ public class MovieServiceImpl implements MovieService {
                 .doOnNext(data -> {
                     logger.debug("Successfully fetched TMDb data for movie ID: {}", tmdbId);
                 })
-                .onErrorResume(error -> {
-                    logger.warn("Failed to fetch TMDb data for movie {} after all retries: {}", tmdbId, error.getMessage());
+                .onErrorResume(WebClientResponseException.NotFound.class, error -> {
+                    logger.debug("TMDb has no movie with ID {}", tmdbId);
                     return Mono.empty();
-                });
+                })
+                .doOnError(error -> logger.warn("Failed to fetch TMDb data for movie {} after all retries: {}", tmdbId, error.getMessage()));
     }
 
 
@@ -1,32 +1,62 @@
 package com.moviehub.review.service.impl;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.moviehub.review.dto.CursorPageDto;
+import com.moviehub.review.dto.MovieResponseDto;
+import com.moviehub.review.dto.RatingReconciliationReportDto;
 import com.moviehub.review.dto.ReviewRequestDto;
 import com.moviehub.review.dto.ReviewResponseDto;
+import com.moviehub.review.event.ReviewChangedEvent;
+import com.moviehub.review.exception.InvalidCursorException;
 import com.moviehub.review.exception.MovieNotFoundException;
 import com.moviehub.review.exception.ReviewNotFoundException;
 import com.moviehub.review.mapper.MovieMapper;
 import com.moviehub.review.mapper.ReviewMapper;
 import com.moviehub.review.model.Movie;
+import com.moviehub.review.model.RatingTotals;
 import com.moviehub.review.model.Review;
 import com.moviehub.review.repository.MovieRepository;
 import com.moviehub.review.repository.ReviewRepository;
 import com.moviehub.review.service.MovieService;
 import com.moviehub.review.service.ReviewService;
+import com.moviehub.review.util.CursorCodec;
+import com.moviehub.review.util.SingleFlight;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.time.Duration;
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
 import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
 
 @Service
 public class ReviewServiceImpl implements ReviewService {
 
     private static final Logger logger = LoggerFactory.getLogger(ReviewServiceImpl.class);
 
+    private static final int MAX_PAGE_LIMIT = 100;
+    private static final int RECONCILE_BATCH_SIZE = 1000;
+    private static final int MAX_REPORTED_DRIFT_IDS = 100;
+
     @Autowired
     private ReviewRepository reviewRepository;
 
@@ -36,6 +66,20 @@ public class ReviewServiceImpl implements ReviewService {
     @Autowired
     private MovieRepository movieRepository;
 
+    @Autowired
+    private SingleFlight<String, String> movieIdByTitleFlight;
+
+    @Autowired
+    private Cache<String, Boolean> missingReviewIdCache;
+
+    @Autowired
+    private SingleFlight<String, CursorPageDto<ReviewResponseDto>> movieReviewsPageFlight;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    private final AtomicBoolean reconciliationRunning = new AtomicBoolean(false);
+
     @Override
     public Mono<ReviewResponseDto> createReview(ReviewRequestDto reviewRequestDto) {
         logger.info("Creating review for movie: {} with rating: {}", reviewRequestDto.getMovieId(), reviewRequestDto.getRating());
@@ -49,7 +93,7 @@ public class ReviewServiceImpl implements ReviewService {
                 .doOnNext(resolvedId -> logger.debug("Resolved movie ID: {} for review", resolvedId))
                 .flatMap(resolvedMovieId -> {
                     reviewRequestDto.setMovieId(resolvedMovieId);
-                    return movieRepository.findById(resolvedMovieId)
+                    return movieService.findMovieById(resolvedMovieId)
                             .flatMap(movie -> {
                                 logger.debug("Found movie for review: {} (Released: {})", movie.getTitle(), movie.getReleased());
                                 if (Boolean.FALSE.equals(movie.getReleased())) {
@@ -59,16 +103,14 @@ public class ReviewServiceImpl implements ReviewService {
                                 Review review = ReviewMapper.toEntity(reviewRequestDto);
                                 return reviewRepository.save(review)
                                         .doOnSuccess(savedReview -> logger.debug("Successfully saved review with ID: {}", savedReview.getReviewId()))
+                                        .doOnNext(savedReview -> {
+                                            missingReviewIdCache.invalidate(savedReview.getReviewId());
+                                            eventPublisher.publishEvent(ReviewChangedEvent.created(savedReview));
+                                        })
                                         .map(ReviewMapper::toDto)
-                                        .flatMap(savedReview -> {
-                                            logger.debug("Calculating new average rating for movie: {}", savedReview.getMovieId());
-                                            return calculateAverageRatingForMovie(savedReview.getMovieId())
-                                                    .flatMap(avgRating -> {
-                                                        logger.debug("New average rating for movie {}: {}", savedReview.getMovieId(), avgRating);
-                                                        return movieService.updateMovieRating(savedReview.getMovieId(), avgRating);
-                                                    })
-                                                    .then(Mono.just(savedReview));
-                                        });
+                                        .flatMap(savedReview -> movieService.applyRatingChange(
+                                                        savedReview.getMovieId(), null, savedReview.getRating())
+                                                .thenReturn(savedReview));
                             });
                 })
                 .doOnSuccess(review -> logger.info("Successfully created review with ID: {} for movie: {}", review.getReviewId(), review.getMovieId()))
@@ -86,27 +128,28 @@ public class ReviewServiceImpl implements ReviewService {
 
         return resolveMovieId(requestDto.getMovieId())
                 .doOnNext(resolvedId -> logger.debug("Resolved movie ID: {} for review update", resolvedId))
-                .flatMap(resolvedMovieId -> reviewRepository.findById(reviewId)
-                        .switchIfEmpty(Mono.error(new ReviewNotFoundException("Review not found with id: " + reviewId)))
-                        .doOnNext(existingReview -> logger.debug("Found existing review: {} for movie: {}", reviewId, existingReview.getMovieId()))
-                        .flatMap(existingReview -> {
-                            existingReview.setMovieId(resolvedMovieId);
-                            existingReview.setComment(requestDto.getComment());
-                            existingReview.setRating(requestDto.getRating());
-                            existingReview.setCreatedAt(Instant.now());
-                            return reviewRepository.save(existingReview);
-                        })
-                        .doOnSuccess(savedReview -> logger.debug("Successfully updated review: {}", reviewId))
-                        .map(ReviewMapper::toDto)
-                        .flatMap(updatedReview -> {
-                            logger.debug("Recalculating average rating for movie: {}", updatedReview.getMovieId());
-                            return calculateAverageRatingForMovie(updatedReview.getMovieId())
-                                    .flatMap(avgRating -> {
-                                        logger.debug("Updated average rating for movie {}: {}", updatedReview.getMovieId(), avgRating);
-                                        return movieService.updateMovieRating(updatedReview.getMovieId(), avgRating);
-                                    })
-                                    .then(Mono.just(updatedReview));
-                        }))
+                .flatMap(resolvedMovieId -> {
+                    Instant updatedAt = Instant.now();
+                    return reviewRepository.findAndUpdateById(reviewId, resolvedMovieId, requestDto.getRating(),
+                                    requestDto.getComment(), updatedAt)
+                            .switchIfEmpty(Mono.error(new ReviewNotFoundException("Review not found with id: " + reviewId)))
+                            .doOnNext(previousReview -> logger.debug("Updated review: {}, previously for movie: {}", reviewId, previousReview.getMovieId()))
+                            .flatMap(previousReview -> {
+                                Review savedReview = new Review();
+                                savedReview.setReviewId(previousReview.getReviewId());
+                                savedReview.setUserId(previousReview.getUserId());
+                                savedReview.setMovieId(resolvedMovieId);
+                                savedReview.setComment(requestDto.getComment());
+                                savedReview.setRating(requestDto.getRating());
+                                savedReview.setCreatedAt(updatedAt);
+                                eventPublisher.publishEvent(ReviewChangedEvent.updated(savedReview));
+
+                                return applyRatingMove(previousReview.getMovieId(), previousReview.getRating(),
+                                        savedReview.getMovieId(), savedReview.getRating())
+                                        .thenReturn(savedReview);
+                            })
+                            .map(ReviewMapper::toDto);
+                })
                 .doOnSuccess(review -> logger.info("Successfully updated review ID: {} for movie: {}", reviewId, review.getMovieId()))
                 .doOnError(error -> logger.error("Failed to update review {}: {}", reviewId, error.getMessage(), error));
     }
@@ -115,15 +158,15 @@ public class ReviewServiceImpl implements ReviewService {
     public Mono<Void> deleteReview(String reviewId) {
         logger.info("Deleting review ID: {}", reviewId);
 
-        return reviewRepository.findById(reviewId)
+        // Only the caller whose findAndRemove actually took the document applies the decrement
+        return reviewRepository.findAndRemoveById(reviewId)
                 .switchIfEmpty(Mono.error(new ReviewNotFoundException("Review not found with reviewId: " + reviewId)))
-                .doOnNext(review -> logger.debug("Found review to delete: {} for movie: {}", reviewId, review.getMovieId()))
-                .flatMap(review -> reviewRepository.deleteById(reviewId)
-                        .doOnSuccess(unused -> logger.debug("Successfully deleted review: {}", reviewId))
-                        .then(calculateAverageRatingForMovie(review.getMovieId())
-                                .doOnNext(avgRating -> logger.debug("Recalculated average rating after deletion for movie {}: {}", review.getMovieId(), avgRating))
-                                .flatMap(avgRating -> movieService.updateMovieRating(review.getMovieId(), avgRating))
-                                .then()))
+                .doOnNext(review -> {
+                    logger.debug("Successfully deleted review: {} for movie: {}", reviewId, review.getMovieId());
+                    missingReviewIdCache.put(reviewId, Boolean.TRUE);
+                    eventPublisher.publishEvent(ReviewChangedEvent.deleted(review));
+                })
+                .flatMap(review -> movieService.applyRatingChange(review.getMovieId(), review.getRating(), null))
                 .doOnSuccess(unused -> logger.info("Successfully deleted review ID: {}", reviewId))
                 .doOnError(error -> logger.error("Failed to delete review {}: {}", reviewId, error.getMessage(), error));
     }
@@ -132,8 +175,16 @@ public class ReviewServiceImpl implements ReviewService {
     public Mono<ReviewResponseDto> getReviewById(String reviewId) {
         logger.info("Fetching review by ID: {}", reviewId);
 
+        if (missingReviewIdCache.getIfPresent(reviewId) != null) {
+            logger.debug("Review ID {} recently looked up and not found, skipping database", reviewId);
+            return Mono.error(new ReviewNotFoundException("Review not found with reviewId: " + reviewId));
+        }
+
         return reviewRepository.findById(reviewId)
-                .switchIfEmpty(Mono.error(new ReviewNotFoundException("Review not found with reviewId: " + reviewId)))
+                .switchIfEmpty(Mono.defer(() -> {
+                    missingReviewIdCache.put(reviewId, Boolean.TRUE);
+                    return Mono.error(new ReviewNotFoundException("Review not found with reviewId: " + reviewId));
+                }))
                 .doOnNext(review -> logger.debug("Retrieved review: {} for movie: {}", reviewId, review.getMovieId()))
                 .doOnError(error -> logger.error("Error fetching review {}: {}", reviewId, error.getMessage()))
                 .map(ReviewMapper::toDto);
@@ -150,6 +201,46 @@ public class ReviewServiceImpl implements ReviewService {
                 .switchIfEmpty(Flux.empty());
     }
 
+    @Override
+    public Mono<Page<ReviewResponseDto>> findReviews(Pageable pageable) {
+        logger.info("Fetching reviews page: {}, size: {}", pageable.getPageNumber(), pageable.getPageSize());
+
+        Mono<List<ReviewResponseDto>> content = reviewRepository.findAllBy(pageable)
+                .map(ReviewMapper::toDto)
+                .collectList();
+
+        return Mono.zip(content, reviewRepository.count())
+                .<Page<ReviewResponseDto>>map(tuple -> new PageImpl<>(tuple.getT1(), pageable, tuple.getT2()))
+                .doOnNext(page -> logger.debug("Reviews page returned {} of {} reviews",
+                        page.getNumberOfElements(), page.getTotalElements()))
+                .doOnError(error -> logger.error("Error fetching reviews page: {}", error.getMessage(), error));
+    }
+
+    @Override
+    public Mono<CursorPageDto<ReviewResponseDto>> getReviewsPage(String cursor, int limit) {
+        logger.info("Fetching reviews page - cursor: {}, limit: {}", cursor, limit);
+
+        int pageLimit = Math.max(1, Math.min(limit, MAX_PAGE_LIMIT));
+        Pageable fetchOneExtra = PageRequest.of(0, pageLimit + 1);
+
+        Flux<Review> reviews;
+        if (cursor == null || cursor.isBlank()) {
+            reviews = reviewRepository.findFirstPageByCreatedAt(fetchOneExtra);
+        } else {
+            String[] position = CursorCodec.decode(cursor);
+            reviews = position[0].isEmpty()
+                    ? reviewRepository.findPageWithoutCreatedAtBefore(CursorCodec.toIdValue(position[1]), fetchOneExtra)
+                    : reviewRepository.findPageBeforeCreatedAt(parseCursorInstant(position[0]),
+                            CursorCodec.toIdValue(position[1]), fetchOneExtra);
+        }
+
+        return reviews.collectList()
+                .map(page -> toCursorPage(page, pageLimit))
+                .doOnNext(page -> logger.debug("Reviews page returned {} items, hasNext: {}",
+                        page.getItems().size(), page.getNext() != null))
+                .doOnError(error -> logger.error("Error fetching reviews page: {}", error.getMessage(), error));
+    }
+
     @Override
     public Flux<ReviewResponseDto> getReviewsByMovieId(String movieId) {
         logger.info("Fetching reviews for movie ID: {}", movieId);
@@ -160,27 +251,196 @@ public class ReviewServiceImpl implements ReviewService {
                 .map(ReviewMapper::toDto);
     }
 
+    @Override
+    public Mono<CursorPageDto<ReviewResponseDto>> getReviewsPageByMovieId(String movieId, String before, int limit) {
+        logger.info("Fetching reviews page for movie ID: {} - before: {}, limit: {}", movieId, before, limit);
+
+        int pageLimit = Math.max(1, Math.min(limit, MAX_PAGE_LIMIT));
+        Pageable fetchOneExtra = PageRequest.of(0, pageLimit + 1);
+
+        Flux<Review> reviews;
+        if (before == null || before.isBlank()) {
+            reviews = reviewRepository.findFirstPageByMovieId(movieId, fetchOneExtra);
+        } else {
+            String[] position = CursorCodec.decode(before);
+            reviews = position[0].isEmpty()
+                    ? reviewRepository.findPageByMovieIdWithoutCreatedAtBefore(movieId,
+                            CursorCodec.toIdValue(position[1]), fetchOneExtra)
+                    : reviewRepository.findPageByMovieIdBeforeCreatedAt(movieId, parseCursorInstant(position[0]),
+                            CursorCodec.toIdValue(position[1]), fetchOneExtra);
+        }
+
+        String flightKey = movieId + ":" + (before == null ? "" : before) + ":" + pageLimit;
+        return movieReviewsPageFlight.execute(flightKey, () -> reviews.collectList()
+                        .map(page -> toCursorPage(page, pageLimit)))
+                .doOnNext(page -> logger.debug("Reviews page for movie {} returned {} items, hasNext: {}",
+                        movieId, page.getItems().size(), page.getNext() != null))
+                .doOnError(error -> logger.error("Error fetching reviews page for movie {}: {}", movieId, error.getMessage(), error));
+    }
+
     @Override
     public Mono<Double> calculateAverageRatingForMovie(String movieId) {
         logger.debug("Calculating average rating for movie ID: {}", movieId);
 
-        return getReviewsByMovieId(movieId)
-                .collectList()
-                .map(reviews -> {
-                    if (reviews.isEmpty()) {
-                        logger.debug("No reviews found for movie {}, returning 0.0", movieId);
-                        return 0.0;
+        return movieRepository.findById(movieId)
+                .map(movie -> {
+                    Integer count = movie.getRatingCount();
+                    if (count == null) {
+                        return movie.getAverageRating() != null ? movie.getAverageRating() : 0.0;
                     }
-                    double average = reviews.stream()
-                            .mapToInt(ReviewResponseDto::getRating)
-                            .average()
-                            .orElse(0.0);
-                    logger.debug("Calculated average rating for movie {}: {} (from {} reviews)", movieId, average, reviews.size());
+                    double average = count > 0 ? movie.getRatingSum() / (double) count : 0.0;
+                    logger.debug("Calculated average rating for movie {}: {} (from {} reviews)", movieId, average, count);
                     return average;
                 })
+                .defaultIfEmpty(0.0)
                 .doOnError(error -> logger.error("Error calculating average rating for movie {}: {}", movieId, error.getMessage(), error));
     }
 
+    @Override
+    public Mono<RatingReconciliationReportDto> reconcileMovieRatings() {
+        if (!reconciliationRunning.compareAndSet(false, true)) {
+            logger.warn("Rating reconciliation already running, rejecting new request");
+            return Mono.error(new IllegalStateException("Rating reconciliation is already running"));
+        }
+
+        Instant startedAt = Instant.now();
+        AtomicLong scanned = new AtomicLong();
+        List<String> driftedIds = Collections.synchronizedList(new ArrayList<>());
+        logger.info("Starting movie rating reconciliation");
+
+        // The stored totals are read before the reviews are aggregated, so a review write landing in between
+        // moves the counters away from the snapshot and the guarded update skips that movie.
+        return movieRepository.findAllRatingTotals()
+                .collectList()
+                .flatMap(storedTotals -> reviewRepository.aggregateRatingTotals()
+                        .collectMap(RatingTotals::getMovieId)
+                        .flatMap(expectedTotals -> Flux.fromIterable(storedTotals)
+                                .doOnNext(stored -> scanned.incrementAndGet())
+                                .filter(stored -> isDrifted(stored, expectedTotals.get(stored.getMovieId())))
+                                .buffer(RECONCILE_BATCH_SIZE)
+                                .concatMap(batch -> {
+                                    batch.forEach(total -> driftedIds.add(total.getMovieId()));
+                                    return movieRepository.bulkUpdateRatingTotals(batch, expectedTotals)
+                                            .doOnNext(corrected -> {
+                                                if (corrected < batch.size()) {
+                                                    logger.info("Skipped {} drifted movies whose totals changed during reconciliation",
+                                                            batch.size() - corrected);
+                                                }
+                                                movieService.evictCachedMovies(batch.stream()
+                                                        .map(RatingTotals::getMovieId)
+                                                        .collect(Collectors.toList()));
+                                            });
+                                })
+                                .then(Mono.fromCallable(() -> {
+                                    RatingReconciliationReportDto report = new RatingReconciliationReportDto();
+                                    report.setStartedAt(startedAt);
+                                    report.setElapsedMillis(Duration.between(startedAt, Instant.now()).toMillis());
+                                    report.setMoviesScanned(scanned.get());
+                                    report.setMoviesWithReviews(expectedTotals.size());
+                                    report.setDriftedMovies(driftedIds.size());
+                                    report.setDriftedMovieIds(driftedIds.subList(0, Math.min(driftedIds.size(), MAX_REPORTED_DRIFT_IDS)));
+                                    return report;
+                                }))))
+                .doOnSuccess(report -> logger.info("Rating reconciliation finished in {} ms: {} movies scanned, {} drifted",
+                        report.getElapsedMillis(), report.getMoviesScanned(), report.getDriftedMovies()))
+                .doOnError(error -> logger.error("Rating reconciliation failed: {}", error.getMessage(), error))
+                .doFinally(signal -> reconciliationRunning.set(false));
+    }
+
+    // Movies stored before the rating counters existed get them from one reconciliation pass
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillMissingRatingTotals() {
+        movieRepository.existsMovieWithoutRatingTotals()
+                .filter(Boolean::booleanValue)
+                .doOnNext(missing -> logger.info("Found movies without rating totals, backfilling from reviews"))
+                .flatMap(missing -> reconcileMovieRatings())
+                .subscribe(
+                        null,
+                        error -> logger.error("Rating totals backfill error: {}", error.getMessage())
+                );
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillMissingCreatedAt() {
+        reviewRepository.backfillCreatedAt()
+                .subscribe(
+                        backfilled -> {
+                            if (backfilled > 0) {
+                                logger.info("Backfilled createdAt on {} reviews", backfilled);
+                            }
+                        },
+                        error -> logger.error("Review createdAt backfill error: {}", error.getMessage())
+                );
+    }
+
+    @Scheduled(cron = "${ratings.reconcile.cron:0 30 3 * * *}")
+    public void reconcileMovieRatingsNightly() {
+        reconcileMovieRatings()
+                .subscribe(
+                        null,
+                        error -> logger.error("Scheduled rating reconciliation error: {}", error.getMessage())
+                );
+    }
+
+    private Mono<Void> applyRatingMove(String previousMovieId, Integer previousRating, String movieId, Integer rating) {
+        if (movieId.equals(previousMovieId)) {
+            return movieService.applyRatingChange(movieId, previousRating, rating);
+        }
+        return movieService.applyRatingChange(previousMovieId, previousRating, null)
+                .then(movieService.applyRatingChange(movieId, null, rating));
+    }
+
+    private boolean isDrifted(RatingTotals stored, RatingTotals expected) {
+        int expectedSum = expected != null ? expected.getRatingSum() : 0;
+        int expectedCount = expected != null ? expected.getRatingCount() : 0;
+        double expectedAverage = expected != null ? expected.getAverageRating() : 0.0;
+
+        if (!Objects.equals(stored.getRatingSum(), expectedSum)
+                || !Objects.equals(stored.getRatingCount(), expectedCount)
+                || stored.getAverageRating() == null
+                || Math.abs(stored.getAverageRating() - expectedAverage) > 1e-9) {
+            return true;
+        }
+
+        for (int stars = 1; stars <= 5; stars++) {
+            if (histogramCount(stored, stars) != histogramCount(expected, stars)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private int histogramCount(RatingTotals totals, int stars) {
+        if (totals == null || totals.getRatingHistogram() == null) {
+            return 0;
+        }
+        Integer count = totals.getRatingHistogram().get(String.valueOf(stars));
+        return count != null ? count : 0;
+    }
+
+    private CursorPageDto<ReviewResponseDto> toCursorPage(List<Review> page, int pageLimit) {
+        boolean hasMore = page.size() > pageLimit;
+        List<Review> content = hasMore ? page.subList(0, pageLimit) : page;
+        Review last = content.isEmpty() ? null : content.get(content.size() - 1);
+        String next = hasMore
+                ? CursorCodec.encode(last.getCreatedAt() != null ? String.valueOf(last.getCreatedAt().toEpochMilli()) : null,
+                        last.getReviewId())
+                : null;
+
+        List<ReviewResponseDto> items = content.stream()
+                .map(ReviewMapper::toDto)
+                .collect(Collectors.toList());
+        return new CursorPageDto<>(items, next);
+    }
+
+    private Instant parseCursorInstant(String value) {
+        try {
+            return Instant.ofEpochMilli(Long.parseLong(value));
+        } catch (NumberFormatException e) {
+            throw new InvalidCursorException("Malformed pagination cursor");
+        }
+    }
+
     private Mono<String> resolveMovieId(String provided) {
         logger.debug("Resolving movie identifier: {}", provided);
 
@@ -190,13 +450,15 @@ public class ReviewServiceImpl implements ReviewService {
         }
 
         String candidate = provided.trim();
-        Mono<String> byId = movieRepository.findById(candidate)
+        Mono<String> byId = movieService.findMovieById(candidate)
                 .doOnNext(movie -> logger.debug("Found movie by ID: {}", movie.getTitle()))
-                .map(Movie::getMovieId);
+                .map(MovieResponseDto::getMovieId);
 
-        Mono<String> byTitle = movieRepository.findByTitleIgnoreCase(candidate)
-                .doOnNext(movie -> logger.debug("Found movie by title: {} (ID: {})", movie.getTitle(), movie.getMovieId()))
-                .map(Movie::getMovieId);
+        // Case-folded key: the title lookup runs under a case-insensitive collation
+        Mono<String> byTitle = movieIdByTitleFlight.execute(candidate.toLowerCase(Locale.ROOT),
+                () -> movieRepository.findFirstByTitle(candidate)
+                        .doOnNext(movie -> logger.debug("Found movie by title: {} (ID: {})", movie.getTitle(), movie.getMovieId()))
+                        .map(Movie::getMovieId));
 
         return byId.switchIfEmpty(byTitle)
                 .switchIfEmpty(Mono.error(new MovieNotFoundException("Movie not found with movieId/title: " + provided)))
@@ -0,0 +1,178 @@
+package com.moviehub.review.util;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Token bucket shared by every request through one {@code WebClient}. Callers reserve a token up front
+ * and wait out any debt, so a burst of subscribers is spread evenly at the current rate. A 429 halves the
+ * rate and stops refill until {@code Retry-After} has passed; each success then adds {@code rampUp / rate}
+ * back, which climbs by about {@code rampUp} requests per second every second until the ceiling.
+ * Throttled requests are retried here, up to {@code maxRetries}, before the 429 is handed to the caller.
+ */
+public class AdaptiveRateLimiter implements ExchangeFilterFunction {
+
+    private static final Logger logger = LoggerFactory.getLogger(AdaptiveRateLimiter.class);
+
+    private static final long NANOS_PER_SECOND = 1_000_000_000L;
+
+    private final String name;
+    private final double maxRate;
+    private final double minRate;
+    private final double burst;
+    private final double rampUp;
+    private final int maxRetries;
+    private final Duration defaultRetryAfter;
+
+    private final AtomicLong throttled = new AtomicLong();
+    private final AtomicLong waited = new AtomicLong();
+
+    private double rate;
+    private double tokens;
+    private long refilledAt;
+    private long throttledAt;
+
+    public AdaptiveRateLimiter(String name, double maxRate, double minRate, double burst, double rampUp,
+                               int maxRetries, Duration defaultRetryAfter) {
+        this.name = name;
+        this.maxRate = maxRate;
+        this.minRate = Math.min(minRate, maxRate);
+        this.burst = Math.max(1.0, burst);
+        this.rampUp = rampUp;
+        this.maxRetries = maxRetries;
+        this.defaultRetryAfter = defaultRetryAfter;
+        this.rate = maxRate;
+        this.tokens = this.burst;
+        this.refilledAt = System.nanoTime();
+        this.throttledAt = refilledAt;
+    }
+
+    @Override
+    public Mono<ClientResponse> filter(ClientRequest request, ExchangeFunction next) {
+        return exchange(request, next, 0);
+    }
+
+    private Mono<ClientResponse> exchange(ClientRequest request, ExchangeFunction next, int attempt) {
+        return acquire()
+                .then(Mono.defer(() -> next.exchange(request)))
+                .flatMap(response -> {
+                    if (response.statusCode().value() != HttpStatus.TOO_MANY_REQUESTS.value()) {
+                        if (response.statusCode().is2xxSuccessful()) {
+                            onSuccess();
+                        }
+                        return Mono.just(response);
+                    }
+
+                    Duration retryAfter = retryAfter(response.headers().asHttpHeaders());
+                    onThrottled(retryAfter);
+                    if (attempt >= maxRetries) {
+                        logger.warn("{} request {} {} still throttled after {} retries",
+                                name, request.method(), request.url().getPath(), attempt);
+                        return Mono.just(response);
+                    }
+                    return response.releaseBody().then(exchange(request, next, attempt + 1));
+                });
+    }
+
+    // A 429 that lands while a caller is queued voids its reservation, so it reserves again and waits
+    // out Retry-After at the reduced rate instead of firing at the deadline it was given before.
+    private Mono<Void> acquire() {
+        return Mono.defer(() -> {
+            long reservedAt = System.nanoTime();
+            long wait = reserve(reservedAt);
+            if (wait <= 0) {
+                return Mono.empty();
+            }
+            waited.incrementAndGet();
+            return Mono.delay(Duration.ofNanos(wait))
+                    .then(Mono.defer(() -> throttledSince(reservedAt) ? acquire() : Mono.<Void>empty()));
+        });
+    }
+
+    // Tokens may go negative: the debt is how long this caller waits behind everyone who reserved before it.
+    // refilledAt can sit in the future after a 429, which holds refill back until Retry-After has elapsed.
+    private synchronized long reserve(long now) {
+        if (now > refilledAt) {
+            tokens = Math.min(capacity(), tokens + (now - refilledAt) * rate / NANOS_PER_SECOND);
+            refilledAt = now;
+        }
+        tokens -= 1.0;
+        long debt = tokens >= 0 ? 0 : (long) (-tokens / rate * NANOS_PER_SECOND);
+        return Math.max(0, refilledAt - now) + debt;
+    }
+
+    private synchronized void onSuccess() {
+        if (rate < maxRate) {
+            rate = Math.min(maxRate, rate + rampUp / rate);
+        }
+    }
+
+    private synchronized void onThrottled(Duration retryAfter) {
+        throttled.incrementAndGet();
+        double previous = rate;
+        rate = Math.max(minRate, rate / 2);
+        throttledAt = System.nanoTime();
+        tokens = 0.0;
+        refilledAt = Math.max(refilledAt, throttledAt + retryAfter.toNanos());
+        logger.warn("{} throttled, retry after {} ms; rate {} -> {} req/s",
+                name, retryAfter.toMillis(), String.format("%.1f", previous), String.format("%.1f", rate));
+    }
+
+    private synchronized boolean throttledSince(long reservedAt) {
+        return throttledAt - reservedAt > 0;
+    }
+
+    private synchronized double capacity() {
+        return Math.max(1.0, Math.min(burst, rate));
+    }
+
+    private Duration retryAfter(HttpHeaders headers) {
+        String value = headers.getFirst(HttpHeaders.RETRY_AFTER);
+        if (value == null || value.isBlank()) {
+            return defaultRetryAfter;
+        }
+        try {
+            return Duration.ofSeconds(Math.max(0, Long.parseLong(value.trim())));
+        } catch (NumberFormatException e) {
+            try {
+                Duration untilDate = Duration.between(ZonedDateTime.now(),
+                        ZonedDateTime.parse(value.trim(), DateTimeFormatter.RFC_1123_DATE_TIME));
+                return untilDate.isNegative() ? Duration.ZERO : untilDate;
+            } catch (Exception ignored) {
+                return defaultRetryAfter;
+            }
+        }
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public synchronized double getRate() {
+        return rate;
+    }
+
+    public double getMaxRate() {
+        return maxRate;
+    }
+
+    public long getThrottled() {
+        return throttled.get();
+    }
+
+    public long getWaited() {
+        return waited.get();
+    }
+}
@@ -0,0 +1,34 @@
+package com.moviehub.review.util;
+
+import com.moviehub.review.exception.InvalidCursorException;
+import org.bson.types.ObjectId;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+public class CursorCodec {
+
+    private static final String SEPARATOR = "\u0000";
+
+    public static String encode(String sortKey, String id) {
+        String raw = (sortKey == null ? "" : sortKey) + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static String[] decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split(SEPARATOR, -1);
+            if (parts.length != 2 || parts[1].isEmpty()) {
+                throw new InvalidCursorException("Malformed pagination cursor");
+            }
+            return parts;
+        } catch (IllegalArgumentException e) {
+            throw new InvalidCursorException("Malformed pagination cursor");
+        }
+    }
+
+    public static Object toIdValue(String id) {
+        return ObjectId.isValid(id) ? new ObjectId(id) : id;
+    }
+}
@@ -0,0 +1,103 @@
+package com.moviehub.review.util;
+
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+import reactor.core.publisher.Mono;
+import reactor.netty.resources.ConnectionPoolMetrics;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.net.SocketAddress;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Pattern;
+
+/**
+ * Latency per endpoint and live connection pool gauges for one {@code WebClient}, without a metrics registry.
+ * As an exchange filter it times each request until response headers arrive, keyed by method and path with
+ * numeric ids folded into {@code {id}}; as the pool's meter registrar it keeps a handle on each pool's counters.
+ */
+public class HttpClientMetrics implements ExchangeFilterFunction, ConnectionProvider.MeterRegistrar {
+
+    private static final Pattern NUMERIC_SEGMENT = Pattern.compile("/\\d+(?=/|$)");
+
+    private final String name;
+    private final Map<String, Endpoint> endpoints = new ConcurrentHashMap<>();
+    private final Map<String, ConnectionPoolMetrics> pools = new ConcurrentHashMap<>();
+
+    public HttpClientMetrics(String name) {
+        this.name = name;
+    }
+
+    @Override
+    public Mono<ClientResponse> filter(ClientRequest request, ExchangeFunction next) {
+        Endpoint endpoint = endpoints.computeIfAbsent(
+                request.method().name() + " " + NUMERIC_SEGMENT.matcher(request.url().getPath()).replaceAll("/{id}"),
+                key -> new Endpoint());
+
+        return Mono.defer(() -> {
+            long start = System.nanoTime();
+            return next.exchange(request)
+                    .doOnSuccess(response -> endpoint.record(System.nanoTime() - start,
+                            response == null || response.statusCode().isError()))
+                    .doOnError(error -> endpoint.record(System.nanoTime() - start, true));
+        });
+    }
+
+    @Override
+    public void registerMetrics(String poolName, String id, SocketAddress remoteAddress, ConnectionPoolMetrics metrics) {
+        pools.put(poolName + " " + remoteAddress, metrics);
+    }
+
+    @Override
+    public void deRegisterMetrics(String poolName, String id, SocketAddress remoteAddress) {
+        pools.remove(poolName + " " + remoteAddress);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public Map<String, Endpoint> getEndpoints() {
+        return endpoints;
+    }
+
+    public Map<String, ConnectionPoolMetrics> getPools() {
+        return pools;
+    }
+
+    public static final class Endpoint {
+        private final LongAdder calls = new LongAdder();
+        private final LongAdder errors = new LongAdder();
+        private final LongAdder totalNanos = new LongAdder();
+        private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0);
+
+        private void record(long nanos, boolean error) {
+            calls.increment();
+            if (error) {
+                errors.increment();
+            }
+            totalNanos.add(nanos);
+            maxNanos.accumulate(nanos);
+        }
+
+        public long getCalls() {
+            return calls.sum();
+        }
+
+        public long getErrors() {
+            return errors.sum();
+        }
+
+        public long getTotalNanos() {
+            return totalNanos.sum();
+        }
+
+        public long getMaxNanos() {
+            return maxNanos.get();
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package com.moviehub.review.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Holds the incremental changes an in-memory index receives while a full rebuild is loading, so they can be
+ * replayed onto the rebuilt structure before it is swapped in. Without it, anything applied between the
+ * rebuild's query and the swap lands on the structure being thrown away. Not thread-safe: callers use it
+ * under the same write lock that guards the structure.
+ */
+public class RebuildBuffer<T> {
+
+    private List<Consumer<T>> pending;
+
+    /**
+     * @return false when a rebuild is already in progress
+     */
+    public boolean start() {
+        if (pending != null) {
+            return false;
+        }
+        pending = new ArrayList<>();
+        return true;
+    }
+
+    public void record(Consumer<T> change) {
+        if (pending != null) {
+            pending.add(change);
+        }
+    }
+
+    public int replayOnto(T rebuilt) {
+        int replayed = pending != null ? pending.size() : 0;
+        if (pending != null) {
+            pending.forEach(change -> change.accept(rebuilt));
+        }
+        pending = null;
+        return replayed;
+    }
+
+    public void abandon() {
+        pending = null;
+    }
+}
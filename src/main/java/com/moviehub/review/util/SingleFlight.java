@@ -0,0 +1,61 @@
+package com.moviehub.review.util;
+
+import reactor.core.publisher.Mono;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+/**
+ * Collapses concurrent lookups of the same key onto one in-flight {@link Mono}. The first caller's
+ * loader runs once and its result (value, empty or error) is replayed to everyone who joined while it
+ * was running; the key is released as soon as the load terminates, so nothing is cached afterwards.
+ */
+public class SingleFlight<K, V> {
+
+    private final String name;
+    private final Map<K, Mono<V>> inFlight = new ConcurrentHashMap<>();
+    private final AtomicLong calls = new AtomicLong();
+    private final AtomicLong collapsed = new AtomicLong();
+
+    public SingleFlight(String name) {
+        this.name = name;
+    }
+
+    public Mono<V> execute(K key, Supplier<Mono<V>> loader) {
+        return Mono.defer(() -> {
+            calls.incrementAndGet();
+
+            AtomicReference<Mono<V>> self = new AtomicReference<>();
+            Mono<V> flight = Mono.defer(loader)
+                    .doFinally(signal -> inFlight.remove(key, self.get()))
+                    .cache();
+            self.set(flight);
+
+            Mono<V> existing = inFlight.putIfAbsent(key, flight);
+            if (existing != null) {
+                collapsed.incrementAndGet();
+                return existing;
+            }
+            return flight;
+        });
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public long getCalls() {
+        return calls.get();
+    }
+
+    public long getCollapsed() {
+        return collapsed.get();
+    }
+
+    public int getInFlight() {
+        return inFlight.size();
+    }
+}
@@ -0,0 +1,92 @@
+package com.moviehub.review.search;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BkTreeTest {
+
+	@Test
+	void levenshteinCountsEditsBothWays() {
+		assertThat(BkTree.levenshtein("kitten", "sitting")).isEqualTo(3);
+		assertThat(BkTree.levenshtein("sitting", "kitten")).isEqualTo(3);
+		assertThat(BkTree.levenshtein("", "eega")).isEqualTo(4);
+		assertThat(BkTree.levenshtein("eega", "eega")).isZero();
+	}
+
+	@Test
+	void searchReturnsExactlyTheKeysWithinTheRadius() {
+		BkTree tree = tree("bahubali", "bahuballi", "bahubal", "babubali", "magadira", "pusa", "rangastalam");
+
+		assertThat(keysWithDistance(tree.search("bahubali", 0))).containsOnlyKeys("bahubali");
+		assertThat(keysWithDistance(tree.search("bahubali", 1)))
+				.containsOnlyKeys("bahubali", "bahuballi", "bahubal", "babubali")
+				.containsEntry("bahuballi", 1);
+		assertThat(keysWithDistance(tree.search("bahubalu", 2)))
+				.containsOnlyKeys("bahubali", "bahuballi", "bahubal", "babubali");
+		assertThat(tree.search("xyz", 1)).isEmpty();
+	}
+
+	@Test
+	void searchMatchesABruteForceScanForEveryRadius() {
+		String[] keys = {"eega", "ega", "iga", "magadira", "magadhira", "maharsi", "pusa", "pushpa", "rangastalam",
+				"arjun", "arjunreddi", "jersi", "salar", "devara", "kalki"};
+		BkTree tree = tree(keys);
+
+		for (String query : new String[]{"eeg", "pushpaa", "arjun", "salaar", "mahesh"}) {
+			for (int radius = 0; radius <= 3; radius++) {
+				int max = radius;
+				assertThat(keysWithDistance(tree.search(query, radius)).keySet())
+						.containsExactlyInAnyOrderElementsOf(Arrays.stream(keys)
+								.filter(key -> BkTree.levenshtein(query, key) <= max)
+								.toList());
+			}
+		}
+	}
+
+	@Test
+	void keysShareValuesAndRemovalDetachesThem() {
+		BkTree tree = new BkTree();
+		tree.add("bahubali", "m1");
+		tree.add("bahubali", "m2");
+		tree.add("bahubal", "m3");
+
+		assertThat(tree.size()).isEqualTo(2);
+		assertThat(tree.search("bahubali", 0).get(0).getValues()).containsExactlyInAnyOrder("m1", "m2");
+
+		tree.remove("bahubali", "m1");
+		tree.remove("bahubal", "m3");
+
+		assertThat(tree.search("bahubali", 1)).singleElement()
+				.satisfies(match -> assertThat(match.getValues()).containsExactly("m2"));
+	}
+
+	@Test
+	void romanizationsOfATeluguTitleShareAPhoneticKey() {
+		String key = TitleTransliteration.phoneticKey("baahubali");
+
+		assertThat(TitleTransliteration.phoneticKey("bahubaali")).isEqualTo(key);
+		assertThat(TitleTransliteration.phoneticKey("బాహుబలి")).isEqualTo(key);
+		assertThat(TitleTransliteration.phoneticKey("rangasthallam"))
+				.isEqualTo(TitleTransliteration.phoneticKey("rangasthalam"));
+		assertThat(TitleTransliteration.phoneticWords("Baahubali: The Beginning"))
+				.containsExactly(key, "te", "begining");
+	}
+
+	private static BkTree tree(String... keys) {
+		BkTree tree = new BkTree();
+		for (String key : keys) {
+			tree.add(key, key);
+		}
+		return tree;
+	}
+
+	private static Map<String, Integer> keysWithDistance(List<BkTree.Match> matches) {
+		return matches.stream().collect(Collectors.toMap(BkTree.Match::getKey, BkTree.Match::getDistance));
+	}
+}
@@ -0,0 +1,128 @@
+package com.moviehub.review.search;
+
+import com.moviehub.review.event.MovieChangedEvent;
+import com.moviehub.review.event.MoviesReleasedEvent;
+import com.moviehub.review.model.Movie;
+import com.moviehub.review.model.OttPlatform;
+import com.moviehub.review.repository.MovieRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import reactor.core.publisher.Sinks;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class MovieFacetIndexTest {
+
+	private final MovieFacetIndex index = new MovieFacetIndex();
+
+	@BeforeEach
+	void setUp() {
+		index.onMovieChanged(MovieChangedEvent.saved(movie("1", "Eega", 2012, true, "Fantasy", "Action")));
+		index.onMovieChanged(MovieChangedEvent.saved(movie("2", "Magadheera", 2009, true, "Action")));
+		index.onMovieChanged(MovieChangedEvent.saved(movie("3", "Pushpa", 2021, true, "Action", "Drama")));
+		index.onMovieChanged(MovieChangedEvent.saved(movie("4", "Devara", 2024, false, "Action")));
+		index.onMovieChanged(MovieChangedEvent.saved(movie("5", "Jersey", 2019, true, "Drama")));
+	}
+
+	@Test
+	void countsWithoutFiltersCoverEveryMovie() {
+		MovieFacetIndex.FacetResult result = index.search(Map.of(), 0, 10);
+
+		assertThat(result.getTotal()).isEqualTo(5);
+		assertThat(result.getCounts().get(MovieFacetIndex.GENRE))
+				.containsExactly(Map.entry("Action", 4), Map.entry("Drama", 2), Map.entry("Fantasy", 1));
+		assertThat(result.getCounts().get(MovieFacetIndex.RELEASED))
+				.containsExactly(Map.entry("true", 4), Map.entry("false", 1));
+	}
+
+	@Test
+	void facetCountsIgnoreTheirOwnFilterButApplyTheOthers() {
+		MovieFacetIndex.FacetResult result = index.search(Map.of(
+				MovieFacetIndex.GENRE, List.of("Drama"),
+				MovieFacetIndex.RELEASED, List.of("true")), 0, 10);
+
+		assertThat(result.getTotal()).isEqualTo(2);
+		assertThat(result.getMovieIds()).containsExactlyInAnyOrder("3", "5");
+		// Other genres are counted as if Drama were not selected, but still restricted to released movies
+		assertThat(result.getCounts().get(MovieFacetIndex.GENRE))
+				.containsExactly(Map.entry("Action", 3), Map.entry("Drama", 2), Map.entry("Fantasy", 1));
+		// Released counts are restricted to Drama only
+		assertThat(result.getCounts().get(MovieFacetIndex.RELEASED)).containsExactly(Map.entry("true", 2));
+		assertThat(result.getCounts().get(MovieFacetIndex.YEAR))
+				.containsOnlyKeys("2019", "2021");
+	}
+
+	@Test
+	void valuesWithinAFacetAreOredTogether() {
+		MovieFacetIndex.FacetResult result = index.search(Map.of(
+				MovieFacetIndex.YEAR, List.of("2009", "2012", "1990")), 0, 10);
+
+		assertThat(result.getMovieIds()).containsExactly("1", "2");
+		assertThat(result.getCounts().get(MovieFacetIndex.YEAR)).hasSize(5);
+		assertThat(result.getCounts().get(MovieFacetIndex.OTT)).containsExactly(Map.entry("Netflix", 2));
+	}
+
+	@Test
+	void pagesThroughMatchesByOffset() {
+		MovieFacetIndex.FacetResult page = index.search(Map.of(MovieFacetIndex.GENRE, List.of("Action")), 2, 2);
+
+		assertThat(page.getTotal()).isEqualTo(4);
+		assertThat(page.getMovieIds()).containsExactly("3", "4");
+		assertThat(index.search(Map.of(), 5, 2).getMovieIds()).isEmpty();
+		assertThat(index.search(Map.of(), (long) Integer.MAX_VALUE + 1, 2).getMovieIds()).isEmpty();
+	}
+
+	@Test
+	void deletesAndReleasesUpdateThePostings() {
+		index.onMovieChanged(MovieChangedEvent.deleted("1"));
+		index.onMoviesReleased(new MoviesReleasedEvent(List.of("4")));
+
+		MovieFacetIndex.FacetResult result = index.search(Map.of(MovieFacetIndex.RELEASED, List.of("true")), 0, 10);
+
+		assertThat(result.getMovieIds()).containsExactly("2", "3", "4", "5");
+		assertThat(result.getCounts().get(MovieFacetIndex.GENRE)).doesNotContainKey("Fantasy");
+		assertThat(result.getCounts().get(MovieFacetIndex.RELEASED)).containsExactly(Map.entry("true", 4));
+	}
+
+	@Test
+	void rebuildReplaysChangesThatArriveWhileItLoads() {
+		MovieRepository movieRepository = mock(MovieRepository.class);
+		Sinks.Many<Movie> sources = Sinks.many().unicast().onBackpressureBuffer();
+		when(movieRepository.findFacetIndexSources()).thenReturn(sources.asFlux());
+		ReflectionTestUtils.setField(index, "movieRepository", movieRepository);
+
+		index.rebuild();
+		sources.tryEmitNext(movie("2", "Magadheera", 2009, true, "Action"));
+		sources.tryEmitNext(movie("5", "Jersey", 2019, true, "Drama"));
+		index.onMovieChanged(MovieChangedEvent.deleted("5"));
+		index.onMovieChanged(MovieChangedEvent.saved(movie("6", "Salaar", 2023, true, "Action")));
+		sources.tryEmitComplete();
+
+		MovieFacetIndex.FacetResult result = index.search(Map.of(), 0, 10);
+		assertThat(result.getMovieIds()).containsExactlyInAnyOrder("2", "6");
+		assertThat(result.getCounts().get(MovieFacetIndex.GENRE)).containsExactly(Map.entry("Action", 2));
+	}
+
+	private static Movie movie(String id, String title, int year, boolean released, String... genres) {
+		Movie movie = new Movie();
+		movie.setMovieId(id);
+		movie.setTitle(title);
+		movie.setReleaseYear(year);
+		movie.setReleased(released);
+		movie.setLanguage("te");
+		movie.setGenre(Arrays.asList(genres));
+		if (year < 2015) {
+			OttPlatform platform = new OttPlatform();
+			platform.setPlatformName("Netflix");
+			movie.setOttPlatforms(List.of(platform));
+		}
+		return movie;
+	}
+}
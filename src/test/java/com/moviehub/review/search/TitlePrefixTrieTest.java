@@ -0,0 +1,107 @@
+package com.moviehub.review.search;
+
+import com.moviehub.review.dto.MovieSuggestionDto;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TitlePrefixTrieTest {
+
+	private final TitlePrefixTrie trie = new TitlePrefixTrie(2);
+
+	@Test
+	void suggestsMostPopularTitlesForAPrefix() {
+		trie.put(movie("1", "Baahubali The Beginning"), 10);
+		trie.put(movie("2", "Bangarraju"), 30);
+		trie.put(movie("3", "Bahubali 2"), 20);
+
+		assertThat(ids(trie.suggest("Ba", 10))).containsExactly("2", "3");
+		assertThat(ids(trie.suggest("baahu", 10))).containsExactly("1");
+		assertThat(ids(trie.suggest("beginning", 10))).containsExactly("1");
+	}
+
+	@Test
+	void removalRecomputesTopKFromTheRestOfTheSubtree() {
+		trie.put(movie("1", "Baahubali The Beginning"), 10);
+		trie.put(movie("2", "Bangarraju"), 30);
+		trie.put(movie("3", "Bahubali 2"), 20);
+
+		trie.remove("2");
+
+		assertThat(trie.size()).isEqualTo(2);
+		assertThat(ids(trie.suggest("ba", 10))).containsExactly("3", "1");
+		assertThat(trie.suggest("bang", 10)).isEmpty();
+	}
+
+	@Test
+	void removalPrunesBranchesLeftWithoutTitles() {
+		trie.put(movie("1", "Eega"), 5);
+		trie.put(movie("2", "Eenadu"), 3);
+
+		trie.remove("1");
+
+		assertThat(trie.suggest("eeg", 10)).isEmpty();
+		assertThat(ids(trie.suggest("ee", 10))).containsExactly("2");
+	}
+
+	@Test
+	void popularityUpdateReordersSuggestions() {
+		trie.put(movie("1", "Magadheera"), 10);
+		trie.put(movie("2", "Maharshi"), 20);
+
+		trie.updatePopularity("1", 50);
+
+		assertThat(ids(trie.suggest("ma", 10))).containsExactly("1", "2");
+	}
+
+	@Test
+	void keysAreIndexedToABoundedDepth() {
+		String title = "Sri Sri Sri Raja Vaaru Vaari Vaarasudu Mahanubhavulu Varu Garu";
+		trie.put(movie("1", title), 1);
+
+		int words = title.split(" ").length;
+		assertThat(trie.nodeCount()).isLessThanOrEqualTo(1 + words * TitlePrefixTrie.MAX_KEY_LENGTH);
+		assertThat(ids(trie.suggest("vaarasudu mahanubhavulu varu", 10))).containsExactly("1");
+		assertThat(ids(trie.suggest(title, 10))).containsExactly("1");
+	}
+
+	@Test
+	void removingEveryTitleLeavesOnlyTheRoot() {
+		trie.put(movie("1", "Baahubali The Beginning"), 10);
+		trie.put(movie("2", "Bangarraju"), 30);
+		trie.put(movie("3", "Bahubali 2"), 20);
+
+		trie.remove("1");
+		trie.remove("2");
+		trie.remove("3");
+
+		assertThat(trie.size()).isZero();
+		assertThat(trie.nodeCount()).isEqualTo(1);
+		assertThat(trie.suggest("b", 10)).isEmpty();
+	}
+
+	@Test
+	void removingATitleWhoseKeysSharePathsPrunesThemAll() {
+		MovieSuggestionDto suggestion = movie("1", "Ala Vaikunthapurramuloo");
+		suggestion.setOriginalTitle("Ala");
+		trie.put(suggestion, 10);
+
+		trie.remove("1");
+
+		assertThat(trie.nodeCount()).isEqualTo(1);
+		assertThat(trie.suggest("b", 10)).isEmpty();
+	}
+
+	private static MovieSuggestionDto movie(String id, String title) {
+		MovieSuggestionDto suggestion = new MovieSuggestionDto();
+		suggestion.setMovieId(id);
+		suggestion.setTitle(title);
+		return suggestion;
+	}
+
+	private static List<String> ids(List<MovieSuggestionDto> suggestions) {
+		return suggestions.stream().map(MovieSuggestionDto::getMovieId).toList();
+	}
+}
@@ -0,0 +1,92 @@
+package com.moviehub.review.util;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+import reactor.core.publisher.Mono;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AdaptiveRateLimiterTest {
+
+	private static final long MILLIS = 1_000_000L;
+
+	private final Map<String, Long> sentAt = new ConcurrentHashMap<>();
+	private final AtomicInteger calls = new AtomicInteger();
+
+	@Test
+	void retriesAThrottledRequestOnlyAfterRetryAfter() {
+		AdaptiveRateLimiter limiter = limiter(3);
+		ExchangeFunction next = request -> {
+			sentAt.put(request.url().getPath() + "#" + calls.incrementAndGet(), System.nanoTime());
+			return Mono.just(calls.get() == 1 ? throttled() : ok());
+		};
+
+		long start = System.nanoTime();
+		ClientResponse response = limiter.filter(get("/a"), next).block(Duration.ofSeconds(5));
+
+		assertThat(response.statusCode().value()).isEqualTo(200);
+		assertThat(sentAt.get("/a#2") - start).isGreaterThanOrEqualTo(1000 * MILLIS);
+		assertThat(limiter.getThrottled()).isEqualTo(1);
+		assertThat(limiter.getRate()).isLessThan(limiter.getMaxRate());
+	}
+
+	@Test
+	void queuedRequestWaitsForRetryAfterThatArrivesWhileItIsQueued() {
+		AdaptiveRateLimiter limiter = limiter(3);
+		ExchangeFunction next = request -> {
+			String path = request.url().getPath();
+			sentAt.putIfAbsent(path, System.nanoTime());
+			if (path.equals("/a") && calls.getAndIncrement() == 0) {
+				return Mono.delay(Duration.ofMillis(50)).thenReturn(throttled());
+			}
+			return Mono.just(ok());
+		};
+
+		long start = System.nanoTime();
+		Mono.zip(limiter.filter(get("/a"), next), limiter.filter(get("/b"), next)).block(Duration.ofSeconds(5));
+
+		assertThat(sentAt.get("/a") - start).isLessThan(100 * MILLIS);
+		assertThat(sentAt.get("/b") - start).isGreaterThanOrEqualTo(1000 * MILLIS);
+	}
+
+	@Test
+	void handsBackTheThrottledResponseOnceRetriesRunOut() {
+		AdaptiveRateLimiter limiter = limiter(0);
+		ExchangeFunction next = request -> {
+			calls.incrementAndGet();
+			return Mono.just(throttled());
+		};
+
+		ClientResponse response = limiter.filter(get("/a"), next).block(Duration.ofSeconds(5));
+
+		assertThat(response.statusCode().value()).isEqualTo(429);
+		assertThat(calls.get()).isEqualTo(1);
+	}
+
+	private static AdaptiveRateLimiter limiter(int maxRetries) {
+		return new AdaptiveRateLimiter("test", 10, 1, 1, 1, maxRetries, Duration.ofSeconds(2));
+	}
+
+	private static ClientRequest get(String path) {
+		return ClientRequest.create(HttpMethod.GET, URI.create("http://tmdb.test" + path)).build();
+	}
+
+	private static ClientResponse throttled() {
+		return ClientResponse.create(HttpStatus.TOO_MANY_REQUESTS).header(HttpHeaders.RETRY_AFTER, "1").build();
+	}
+
+	private static ClientResponse ok() {
+		return ClientResponse.create(HttpStatus.OK).build();
+	}
+}
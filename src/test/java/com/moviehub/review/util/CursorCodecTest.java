@@ -0,0 +1,49 @@
+package com.moviehub.review.util;
+
+import com.moviehub.review.exception.InvalidCursorException;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CursorCodecTest {
+
+	@Test
+	void roundTripsSortKeyAndId() {
+		String id = new ObjectId().toHexString();
+
+		assertThat(CursorCodec.decode(CursorCodec.encode("1718000000000", id))).containsExactly("1718000000000", id);
+		assertThat(CursorCodec.decode(CursorCodec.encode("బాహుబలి: The Beginning / 2?", "m-1")))
+				.containsExactly("బాహుబలి: The Beginning / 2?", "m-1");
+		assertThat(CursorCodec.decode(CursorCodec.encode(null, "m-1"))).containsExactly("", "m-1");
+	}
+
+	@Test
+	void encodesToAUrlSafeToken() {
+		assertThat(CursorCodec.encode("???>>>", "id")).matches("[A-Za-z0-9_-]+");
+	}
+
+	@Test
+	void rejectsMalformedCursors() {
+		assertThatThrownBy(() -> CursorCodec.decode("not a cursor!")).isInstanceOf(InvalidCursorException.class);
+		assertThatThrownBy(() -> CursorCodec.decode(raw("no separator"))).isInstanceOf(InvalidCursorException.class);
+		assertThatThrownBy(() -> CursorCodec.decode(raw("title\u0000"))).isInstanceOf(InvalidCursorException.class);
+		assertThatThrownBy(() -> CursorCodec.decode(raw("a\u0000b\u0000c"))).isInstanceOf(InvalidCursorException.class);
+	}
+
+	@Test
+	void convertsHexIdsToObjectIds() {
+		ObjectId objectId = new ObjectId();
+
+		assertThat(CursorCodec.toIdValue(objectId.toHexString())).isEqualTo(objectId);
+		assertThat(CursorCodec.toIdValue("tmdb-12345")).isEqualTo("tmdb-12345");
+	}
+
+	private static String raw(String value) {
+		return Base64.getUrlEncoder().withoutPadding().encodeToString(value.getBytes(StandardCharsets.UTF_8));
+	}
+}